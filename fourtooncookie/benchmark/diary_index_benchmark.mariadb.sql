@@ -0,0 +1,111 @@
+-- Diary 접근 패턴 인덱스 벤치마크의 MariaDB 판 (MariaDB 11.4 에서 확인)
+-- diary_index_benchmark.sql 에서 MySQL 전용 문법 세 곳만 바꿨다. 스키마, 데이터, 쿼리는 같다.
+--   UUID_TO_BIN(UUID())                   -> UNHEX(REPLACE(UUID(), '-', ''))
+--   SET SESSION cte_max_recursion_depth   -> SET SESSION max_recursive_iterations
+--   EXPLAIN ANALYZE                       -> ANALYZE FORMAT=JSON
+--
+-- 사용법
+--   mariadb --force -u root -p fourtooncookie_bench < benchmark/diary_index_benchmark.mariadb.sql
+--   (--force 는 마지막 중복 INSERT 의 1062 오류 뒤에도 정리 구문까지 실행하게 한다)
+--
+-- 빈 스키마에 diary 테이블을 만들고 회원 20,000명 x 일기 100편 = 2,000,000건을 적재한 뒤,
+-- 인덱스가 없을 때와 uk_diary_member_id_diary_date 를 추가한 뒤의 실행 계획과 소요 시간을 출력한다.
+-- 애플리케이션 스키마를 흉내낸 것이며 운영 DB 에서 실행하지 않는다.
+
+SET SESSION max_recursive_iterations = 1000000;
+
+DROP TABLE IF EXISTS diary;
+CREATE TABLE diary (
+    diary_id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    content                  VARCHAR(255) NOT NULL,
+    is_favorite              BIT(1)       NOT NULL,
+    diary_date               DATE         NOT NULL,
+    painting_image_urls      VARCHAR(255),
+    character_character_id   BIGINT       NOT NULL,
+    member_id                BINARY(16)   NOT NULL,
+    status                   VARCHAR(20)  NOT NULL,
+    painting_image_presence  INT          NOT NULL,
+    painting_image_version   INT          NOT NULL,
+    painting_generation      INT          NOT NULL,
+    created_date_time        DATETIME(6),
+    modified_date_time       DATETIME(6),
+    PRIMARY KEY (diary_id)
+) ENGINE = InnoDB;
+
+DROP TABLE IF EXISTS bench_member;
+CREATE TABLE bench_member (
+    seq       INT        NOT NULL PRIMARY KEY,
+    member_id BINARY(16) NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO bench_member (seq, member_id)
+WITH RECURSIVE seq AS (SELECT 1 AS n UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT n, UNHEX(REPLACE(UUID(), '-', '')) FROM seq;
+
+INSERT INTO diary (content, is_favorite, diary_date, painting_image_urls, character_character_id, member_id, status,
+                   painting_image_presence, painting_image_version, painting_generation, created_date_time, modified_date_time)
+WITH RECURSIVE day AS (SELECT 0 AS d UNION ALL SELECT d + 1 FROM day WHERE d < 99)
+SELECT CONCAT('diary ', m.seq, '-', day.d), b'0', DATE_SUB('2024-12-31', INTERVAL day.d DAY), '',
+       1 + (m.seq % 8), m.member_id, 'COMPLETED', 15, 1, 1, NOW(6), NOW(6)
+FROM bench_member m CROSS JOIN day
+ORDER BY RAND();
+
+ANALYZE TABLE diary;
+
+SET @member_id = (SELECT member_id FROM bench_member WHERE seq = 12345);
+SET @cursor_date = '2024-10-01';
+SET @cursor_id = (SELECT diary_id FROM diary WHERE member_id = @member_id AND diary_date = @cursor_date);
+
+-- ---------------------------------------------------------------------------
+-- 1) 인덱스 없음 (기존 스키마)
+-- ---------------------------------------------------------------------------
+
+-- 타임라인 첫 페이지 (findTimelineByMemberId)
+ANALYZE FORMAT=JSON
+SELECT diary_id, content, is_favorite, diary_date, character_character_id, status, painting_image_presence
+FROM diary WHERE member_id = @member_id ORDER BY diary_date DESC, diary_id DESC LIMIT 11;
+
+-- 타임라인 커서 페이지 (findTimelineByMemberIdAfter)
+ANALYZE FORMAT=JSON
+SELECT diary_id, content, is_favorite, diary_date, character_character_id, status, painting_image_presence
+FROM diary WHERE member_id = @member_id
+  AND (diary_date < @cursor_date OR (diary_date = @cursor_date AND diary_id < @cursor_id))
+ORDER BY diary_date DESC, diary_id DESC LIMIT 11;
+
+-- 같은 날짜 일기 존재 여부 (유니크 제약 도입 전 일기 작성 시의 중복 사전 조회)
+ANALYZE FORMAT=JSON
+SELECT diary_id FROM diary WHERE member_id = @member_id AND diary_date = @cursor_date LIMIT 1;
+
+-- 회원 탈퇴 시 일기 조회 (deleteByMemberId 는 대상 행을 먼저 조회한다)
+ANALYZE FORMAT=JSON
+SELECT diary_id FROM diary WHERE member_id = @member_id;
+
+-- ---------------------------------------------------------------------------
+-- 2) uk_diary_member_id_diary_date 추가 후
+-- ---------------------------------------------------------------------------
+
+ALTER TABLE diary ADD CONSTRAINT uk_diary_member_id_diary_date UNIQUE (member_id, diary_date);
+ANALYZE TABLE diary;
+
+ANALYZE FORMAT=JSON
+SELECT diary_id, content, is_favorite, diary_date, character_character_id, status, painting_image_presence
+FROM diary WHERE member_id = @member_id ORDER BY diary_date DESC, diary_id DESC LIMIT 11;
+
+ANALYZE FORMAT=JSON
+SELECT diary_id, content, is_favorite, diary_date, character_character_id, status, painting_image_presence
+FROM diary WHERE member_id = @member_id
+  AND (diary_date < @cursor_date OR (diary_date = @cursor_date AND diary_id < @cursor_id))
+ORDER BY diary_date DESC, diary_id DESC LIMIT 11;
+
+ANALYZE FORMAT=JSON
+SELECT diary_id FROM diary WHERE member_id = @member_id AND diary_date = @cursor_date LIMIT 1;
+
+ANALYZE FORMAT=JSON
+SELECT diary_id FROM diary WHERE member_id = @member_id;
+
+-- 중복 일기 INSERT 는 사전 조회 없이 유니크 제약 위반(1062)으로 거부된다.
+INSERT INTO diary (content, is_favorite, diary_date, painting_image_urls, character_character_id, member_id, status,
+                   painting_image_presence, painting_image_version, painting_generation, created_date_time, modified_date_time)
+VALUES ('duplicate', b'0', @cursor_date, '', 1, @member_id, 'IN_PROGRESS', 0, 0, 1, NOW(6), NOW(6));
+
+DROP TABLE bench_member;
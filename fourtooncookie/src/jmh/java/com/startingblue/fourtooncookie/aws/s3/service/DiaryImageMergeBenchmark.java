@@ -0,0 +1,46 @@
+package com.startingblue.fourtooncookie.aws.s3.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiaryImageMergeBenchmark {
+
+    // 생성 모델의 출력 해상도. ImageIO 가 PNG 를 읽으면 TYPE_3BYTE_BGR 로 디코딩된다.
+    @Param({"512", "1024"})
+    private int panelSize;
+
+    private DiaryImageS3Service diaryImageS3Service;
+    private List<BufferedImage> panels;
+
+    @Setup
+    public void setUp() {
+        diaryImageS3Service = new DiaryImageS3Service(null, null, Runnable::run, null);
+        panels = new ArrayList<>();
+        Color[] colors = {Color.RED, Color.GREEN, Color.BLUE, Color.ORANGE};
+        for (Color color : colors) {
+            BufferedImage panel = new BufferedImage(panelSize, panelSize, BufferedImage.TYPE_3BYTE_BGR);
+            Graphics2D g = panel.createGraphics();
+            g.setColor(color);
+            g.fillRect(0, 0, panelSize, panelSize);
+            g.dispose();
+            panels.add(panel);
+        }
+    }
+
+    @Benchmark
+    public BufferedImage mergeImagesTo2x2() {
+        return diaryImageS3Service.mergeImagesTo2x2(panels);
+    }
+}
@@ -0,0 +1,82 @@
+package com.startingblue.fourtooncookie.diary.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startingblue.fourtooncookie.artwork.domain.Artwork;
+import com.startingblue.fourtooncookie.character.domain.Character;
+import com.startingblue.fourtooncookie.character.domain.CharacterVisionType;
+import com.startingblue.fourtooncookie.diary.domain.Diary;
+import com.startingblue.fourtooncookie.global.config.ObjectMapperConfig;
+import com.startingblue.fourtooncookie.global.domain.PaymentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiarySavedResponseBenchmark {
+
+    // 타임라인 한 페이지의 최대 크기
+    private static final int PAGE_SIZE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+
+    private List<Diary> diaries;
+    private DiarySavedResponses responses;
+
+    @Setup
+    public void setUp() throws MalformedURLException {
+        Character character = Character.builder()
+                .characterVisionType(CharacterVisionType.DALL_E_3)
+                .paymentType(PaymentType.FREE)
+                .name("멍멍이")
+                .artwork(new Artwork("artwork title", new URL("https://artwork.png")))
+                .selectionThumbnailUrl(new URL("https://멍멍이.png"))
+                .basePrompt("base prompt")
+                .build();
+
+        UUID memberId = UUID.randomUUID();
+        diaries = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            List<URL> paintingImageUrls = new ArrayList<>();
+            for (int gridPosition = 0; gridPosition < 4; gridPosition++) {
+                paintingImageUrls.add(new URL("https://fourtooncookie-diary-image.s3.ap-northeast-2.amazonaws.com/"
+                        + i + "/" + gridPosition + ".png?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Expires=600&X-Amz-Signature="
+                        + "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef"));
+            }
+            diaries.add(Diary.builder()
+                    .content("오늘은 친구와 공원에서 산책을 했다. ".repeat(10))
+                    .diaryDate(LocalDate.of(2024, 7, 1).plusDays(i))
+                    .paintingImageUrls(paintingImageUrls)
+                    .character(character)
+                    .memberId(memberId)
+                    .build());
+        }
+        responses = DiarySavedResponses.of(diaries);
+    }
+
+    @Benchmark
+    public DiarySavedResponses mapDiarySavedResponses() {
+        return DiarySavedResponses.of(diaries);
+    }
+
+    @Benchmark
+    public byte[] serializeDiarySavedResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeDiarySavedResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(DiarySavedResponses.of(diaries));
+    }
+}
@@ -0,0 +1,66 @@
+package com.startingblue.fourtooncookie.global.authentication.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtExtractorBenchmark {
+
+    private static final String SECRET = "my-secret-key-my-secret-key-my-secret-key-12345";
+    private static final String ISSUER = "benchmark-issuer";
+
+    private JwtExtractor jwtExtractor;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .setIssuer(ISSUER)
+                .setSubject("00000000-0000-0000-0000-000000000000")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(ISSUER)
+                .build();
+        jwtExtractor = new JwtExtractor(SECRET, ISSUER, 10_000L, 300L);
+    }
+
+    // 기존 구현: 요청마다 키와 파서를 새로 만든다.
+    @Benchmark
+    public Claims parseTokenWithPerRequestParser() {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(ISSUER)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims parseTokenWithSharedParser() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims parseTokenWithVerifiedTokenCache() {
+        return jwtExtractor.parseToken(token);
+    }
+}
@@ -0,0 +1,47 @@
+package com.startingblue.fourtooncookie.global.converter.jpa;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListToStringConverterBenchmark {
+
+    private final UrlListToStringConverter urlListToStringConverter = new UrlListToStringConverter();
+    private final LongListToStringConverter longListToStringConverter = new LongListToStringConverter();
+
+    // 일기 한 편의 그림 URL 4개
+    private List<URL> paintingImageUrls;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() throws MalformedURLException {
+        paintingImageUrls = new ArrayList<>();
+        for (int gridPosition = 0; gridPosition < 4; gridPosition++) {
+            paintingImageUrls.add(new URL("https://fourtooncookie-diary-image.s3.ap-northeast-2.amazonaws.com/123456/" + gridPosition + ".png"));
+        }
+        ids = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            ids.add(id * 1_000_003L);
+        }
+    }
+
+    @Benchmark
+    public List<URL> urlListRoundTrip() {
+        return urlListToStringConverter.convertToEntityAttribute(urlListToStringConverter.convertToDatabaseColumn(paintingImageUrls));
+    }
+
+    @Benchmark
+    public List<Long> longListRoundTrip() {
+        return longListToStringConverter.convertToEntityAttribute(longListToStringConverter.convertToDatabaseColumn(ids));
+    }
+}
@@ -0,0 +1,74 @@
+package com.startingblue.fourtooncookie.global.domain;
+
+import com.startingblue.fourtooncookie.artwork.domain.Artwork;
+import com.startingblue.fourtooncookie.character.domain.Character;
+import com.startingblue.fourtooncookie.character.domain.CharacterVisionType;
+import com.startingblue.fourtooncookie.diary.domain.Diary;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainValidatorBenchmark {
+
+    private Artwork artwork;
+    private Character character;
+    private Diary diary;
+
+    @Setup
+    public void setUp() throws MalformedURLException {
+        artwork = new Artwork("artwork title", new URL("https://artwork.png"));
+        character = Character.builder()
+                .characterVisionType(CharacterVisionType.DALL_E_3)
+                .paymentType(PaymentType.FREE)
+                .name("멍멍이")
+                .artwork(artwork)
+                .selectionThumbnailUrl(new URL("https://멍멍이.png"))
+                .basePrompt("base prompt")
+                .build();
+        diary = Diary.builder()
+                .content("오늘은 벤치마크를 돌렸다.")
+                .diaryDate(LocalDate.of(2024, 7, 21))
+                .character(character)
+                .memberId(UUID.randomUUID())
+                .build();
+    }
+
+    // 기존 구현: 검증할 때마다 ValidatorFactory 를 새로 만든다.
+    @Benchmark
+    public Set<ConstraintViolation<Diary>> validateDiaryWithPerCallFactory() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        return factory.getValidator().validate(diary);
+    }
+
+    @Benchmark
+    public Diary validateDiaryWithSharedValidator() {
+        DomainValidator.validate(diary);
+        return diary;
+    }
+
+    @Benchmark
+    public Character validateCharacterWithSharedValidator() {
+        DomainValidator.validate(character);
+        return character;
+    }
+
+    @Benchmark
+    public Artwork validateArtworkWithSharedValidator() {
+        DomainValidator.validate(artwork);
+        return artwork;
+    }
+}
@@ -0,0 +1,241 @@
+package com.startingblue.fourtooncookie.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startingblue.fourtooncookie.artwork.domain.Artwork;
+import com.startingblue.fourtooncookie.artwork.domain.ArtworkRepository;
+import com.startingblue.fourtooncookie.character.domain.Character;
+import com.startingblue.fourtooncookie.character.domain.CharacterRepository;
+import com.startingblue.fourtooncookie.character.domain.CharacterVisionType;
+import com.startingblue.fourtooncookie.diary.domain.Diary;
+import com.startingblue.fourtooncookie.diary.domain.DiaryRepository;
+import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.global.domain.PaymentType;
+import com.startingblue.fourtooncookie.loadtest.aws.InMemoryLambdaClient;
+import com.startingblue.fourtooncookie.loadtest.aws.LoadTestAwsConfig;
+import com.startingblue.fourtooncookie.member.domain.Gender;
+import com.startingblue.fourtooncookie.member.domain.Member;
+import com.startingblue.fourtooncookie.member.domain.MemberRepository;
+import com.startingblue.fourtooncookie.member.domain.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew loadTest 로 실행한다. 설정 값은 application-loadtest.yml 을 참고한다.
+// 실행 중에는 관리 포트의 /actuator/prometheus 로 서버 쪽 메트릭을 함께 볼 수 있다.
+@AutoConfigureObservability
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(LoadTestAwsConfig.class)
+class DiaryLoadTest {
+
+    private static final LocalDate FIRST_SEEDED_DIARY_DATE = LocalDate.of(2020, 1, 1);
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofDays(1);
+
+    @LocalServerPort
+    int port;
+
+    @LocalManagementPort
+    int managementPort;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ArtworkRepository artworkRepository;
+
+    @Autowired
+    CharacterRepository characterRepository;
+
+    @Autowired
+    DiaryRepository diaryRepository;
+
+    @Autowired
+    InMemoryLambdaClient inMemoryLambdaClient;
+
+    @Value("${jwt.secret}")
+    String jwtSecret;
+
+    @Value("${jwt.issuer-uri}")
+    String jwtIssuer;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    boolean virtualThreadsEnabled;
+
+    @Value("${loadtest.duration-seconds}")
+    int durationSeconds;
+
+    @Value("${loadtest.warmup-seconds}")
+    int warmupSeconds;
+
+    @Value("${loadtest.virtual-users}")
+    int virtualUsers;
+
+    @Value("${loadtest.seed-diaries-per-user}")
+    int seedDiariesPerUser;
+
+    @Value("${loadtest.max-error-rate}")
+    double maxErrorRate;
+
+    @Value("${loadtest.report-dir}")
+    Path reportDirectory;
+
+    @Value("${loadtest.mix.timeline}")
+    int timelineWeight;
+
+    @Value("${loadtest.mix.diary}")
+    int diaryWeight;
+
+    @Value("${loadtest.mix.full-image}")
+    int fullImageWeight;
+
+    @Value("${loadtest.mix.create-diary}")
+    int createDiaryWeight;
+
+    @DisplayName("일기 API 요청 비중을 재생하고 엔드포인트별 처리량과 응답 시간 백분위수를 기록한다.")
+    @Test
+    void replayDiaryTraffic() throws Exception {
+        // given
+        LoadTestMix mix = createMix();
+        Character character = seedCharacter();
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            List<VirtualUser> users = IntStream.range(0, virtualUsers)
+                    .mapToObj(index -> seedVirtualUser(httpClient, baseUri, character, mix, index))
+                    .toList();
+
+            // when
+            System.out.println("Prometheus: http://localhost:" + managementPort + "/actuator/prometheus");
+            run(executor, users, Duration.ofSeconds(warmupSeconds));
+            LatencyRecorder recorder = run(executor, users, Duration.ofSeconds(durationSeconds));
+
+            // then
+            LoadTestReport report = LoadTestReport.of(recorder, durationSeconds, virtualUsers, virtualThreadsEnabled, mix);
+            System.out.println(report.toTable());
+            System.out.println("Lambda 호출 수: " + inMemoryLambdaClient.getInvocationCount());
+            System.out.println("결과 파일: " + report.writeJson(objectMapper, reportDirectory).toAbsolutePath());
+
+            assertThat(report.total().requests()).isPositive();
+            assertThat(report.errorRate()).isLessThanOrEqualTo(maxErrorRate);
+        }
+    }
+
+    private LatencyRecorder run(ExecutorService executor, List<VirtualUser> users, Duration duration) throws Exception {
+        long deadlineNanos = System.nanoTime() + duration.toNanos();
+        List<Future<LatencyRecorder>> results = new ArrayList<>();
+        for (VirtualUser user : users) {
+            results.add(executor.submit(() -> user.runUntil(deadlineNanos)));
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (Future<LatencyRecorder> result : results) {
+            recorder.mergeFrom(result.get());
+        }
+        return recorder;
+    }
+
+    private LoadTestMix createMix() {
+        Map<LoadTestEndpoint, Integer> weights = new EnumMap<>(LoadTestEndpoint.class);
+        weights.put(LoadTestEndpoint.TIMELINE, timelineWeight);
+        weights.put(LoadTestEndpoint.DIARY, diaryWeight);
+        weights.put(LoadTestEndpoint.FULL_IMAGE, fullImageWeight);
+        weights.put(LoadTestEndpoint.CREATE_DIARY, createDiaryWeight);
+        return new LoadTestMix(weights);
+    }
+
+    private Character seedCharacter() throws MalformedURLException {
+        Artwork artwork = artworkRepository.save(new Artwork("load test artwork", URI.create("https://artwork.png").toURL()));
+        return characterRepository.save(Character.builder()
+                .characterVisionType(CharacterVisionType.DALL_E_3)
+                .paymentType(PaymentType.FREE)
+                .name("부하테스트")
+                .artwork(artwork)
+                .selectionThumbnailUrl(URI.create("https://character.png").toURL())
+                .basePrompt("base prompt")
+                .build());
+    }
+
+    // 그림 생성이 끝난 일기를 가진 회원을 만든다. 새로 쓰는 일기는 시드 일기 다음 날짜부터 이어진다.
+    private VirtualUser seedVirtualUser(HttpClient httpClient, URI baseUri, Character character, LoadTestMix mix, int index) {
+        Member member = memberRepository.save(Member.builder()
+                .id(UUID.randomUUID())
+                .name("부하테스트" + index)
+                .birth(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .role(Role.MEMBER)
+                .build());
+
+        List<Diary> diaries = IntStream.range(0, seedDiariesPerUser)
+                .mapToObj(day -> createCompletedDiary(member, character, FIRST_SEEDED_DIARY_DATE.plusDays(day)))
+                .toList();
+        List<Long> diaryIds = diaryRepository.saveAll(diaries).stream()
+                .map(Diary::getId)
+                .toList();
+        diaryIds.forEach(inMemoryLambdaClient::storePaintingImages);
+
+        return new VirtualUser(httpClient, objectMapper, baseUri, createAccessToken(member.getId()), character.getId(), mix,
+                index, diaryIds, FIRST_SEEDED_DIARY_DATE.plusDays(seedDiariesPerUser));
+    }
+
+    private Diary createCompletedDiary(Member member, Character character, LocalDate diaryDate) {
+        Diary diary = Diary.builder()
+                .content("부하 테스트 일기 " + diaryDate)
+                .diaryDate(diaryDate)
+                .isFavorite(false)
+                .character(character)
+                .memberId(member.getId())
+                .build();
+        diary.updateDiaryStatus(DiaryStatus.COMPLETED);
+        diary.markAllPaintingImagesPresent();
+        diary.increasePaintingImageVersion();
+        return diary;
+    }
+
+    private String createAccessToken(UUID memberId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(memberId.toString())
+                .setIssuer(jwtIssuer)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ACCESS_TOKEN_TTL)))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
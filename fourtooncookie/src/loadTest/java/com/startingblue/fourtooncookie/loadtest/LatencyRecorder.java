@@ -0,0 +1,74 @@
+package com.startingblue.fourtooncookie.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 가상 사용자 하나가 기록하는 엔드포인트별 응답 시간. 스레드 간에 공유하지 않고 종료 후 합친다.
+public class LatencyRecorder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<LoadTestEndpoint, Samples> samples = new EnumMap<>(LoadTestEndpoint.class);
+
+    public void record(LoadTestEndpoint endpoint, long latencyNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, ignored -> new Samples()).add(latencyNanos, success);
+    }
+
+    public void mergeFrom(LatencyRecorder other) {
+        other.samples.forEach((endpoint, otherSamples) ->
+                samples.computeIfAbsent(endpoint, ignored -> new Samples()).addAll(otherSamples));
+    }
+
+    public Samples combinedSamples() {
+        Samples combined = new Samples();
+        samples.values().forEach(combined::addAll);
+        return combined;
+    }
+
+    public Map<LoadTestEndpoint, Samples> getSamples() {
+        return samples;
+    }
+
+    public static class Samples {
+
+        private long[] latencyNanos = new long[INITIAL_CAPACITY];
+        private int count;
+        private int errorCount;
+
+        private void add(long latency, boolean success) {
+            ensureCapacity(count + 1);
+            latencyNanos[count++] = latency;
+            if (!success) {
+                errorCount++;
+            }
+        }
+
+        private void addAll(Samples other) {
+            ensureCapacity(count + other.count);
+            System.arraycopy(other.latencyNanos, 0, latencyNanos, count, other.count);
+            count += other.count;
+            errorCount += other.errorCount;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > latencyNanos.length) {
+                latencyNanos = Arrays.copyOf(latencyNanos, Math.max(capacity, latencyNanos.length * 2));
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        public long[] sortedLatencyNanos() {
+            long[] sorted = Arrays.copyOf(latencyNanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
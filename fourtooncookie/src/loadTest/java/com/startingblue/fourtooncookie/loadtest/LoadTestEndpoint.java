@@ -0,0 +1,19 @@
+package com.startingblue.fourtooncookie.loadtest;
+
+public enum LoadTestEndpoint {
+
+    TIMELINE("GET /diary/timeline"),
+    DIARY("GET /diary/{id}"),
+    FULL_IMAGE("GET /diary/{id}/image/full"),
+    CREATE_DIARY("POST /diary");
+
+    private final String label;
+
+    LoadTestEndpoint(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
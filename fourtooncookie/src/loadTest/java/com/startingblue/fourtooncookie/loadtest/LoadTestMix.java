@@ -0,0 +1,38 @@
+package com.startingblue.fourtooncookie.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+// 엔드포인트별 비중에 따라 다음 요청을 고른다.
+public class LoadTestMix {
+
+    private final Map<LoadTestEndpoint, Integer> weights;
+    private final int totalWeight;
+
+    public LoadTestMix(Map<LoadTestEndpoint, Integer> weights) {
+        if (weights.values().stream().anyMatch(weight -> weight < 0)) {
+            throw new IllegalArgumentException("요청 비중은 0 이상이어야 합니다.");
+        }
+        this.weights = new EnumMap<>(weights);
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("요청 비중의 합은 0보다 커야 합니다.");
+        }
+    }
+
+    public LoadTestEndpoint next(RandomGenerator random) {
+        int remaining = random.nextInt(totalWeight);
+        for (Map.Entry<LoadTestEndpoint, Integer> weight : weights.entrySet()) {
+            remaining -= weight.getValue();
+            if (remaining < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("요청 비중 계산이 잘못되었습니다.");
+    }
+
+    public Map<LoadTestEndpoint, Integer> getWeights() {
+        return weights;
+    }
+}
@@ -0,0 +1,91 @@
+package com.startingblue.fourtooncookie.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestReport(double durationSeconds,
+                             int virtualUsers,
+                             boolean virtualThreads,
+                             Map<LoadTestEndpoint, Integer> mix,
+                             List<EndpointSummary> endpoints,
+                             EndpointSummary total) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String TOTAL_LABEL = "TOTAL";
+
+    public static LoadTestReport of(LatencyRecorder recorder, double durationSeconds, int virtualUsers,
+                                    boolean virtualThreads, LoadTestMix mix) {
+        List<EndpointSummary> endpoints = new ArrayList<>();
+        recorder.getSamples().forEach((endpoint, samples) ->
+                endpoints.add(EndpointSummary.of(endpoint.getLabel(), samples, durationSeconds)));
+        return new LoadTestReport(durationSeconds, virtualUsers, virtualThreads, mix.getWeights(), endpoints,
+                EndpointSummary.of(TOTAL_LABEL, recorder.combinedSamples(), durationSeconds));
+    }
+
+    public double errorRate() {
+        return total.requests() == 0 ? 0 : (double) total.errors() / total.requests();
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%n부하 테스트 결과 (%.1fs, 가상 사용자 %d명, 가상 스레드 %s)%n",
+                durationSeconds, virtualUsers, virtualThreads));
+        table.append(String.format("%-28s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        endpoints.forEach(endpoint -> table.append(endpoint.toRow()));
+        table.append(total.toRow());
+        return table.toString();
+    }
+
+    public Path writeJson(ObjectMapper objectMapper, Path reportDirectory) throws IOException {
+        Files.createDirectories(reportDirectory);
+        Path reportFile = reportDirectory.resolve("summary.json");
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportFile.toFile(), this);
+        return reportFile;
+    }
+
+    public record EndpointSummary(String endpoint,
+                                  int requests,
+                                  int errors,
+                                  double throughputPerSecond,
+                                  double p50Millis,
+                                  double p90Millis,
+                                  double p99Millis,
+                                  double maxMillis) {
+
+        static EndpointSummary of(String endpoint, LatencyRecorder.Samples samples, double durationSeconds) {
+            long[] sorted = samples.sortedLatencyNanos();
+            return new EndpointSummary(
+                    endpoint,
+                    samples.getCount(),
+                    samples.getErrorCount(),
+                    samples.getCount() / durationSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.90),
+                    percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 1.0));
+        }
+
+        // nearest-rank 방식의 백분위수
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / NANOS_PER_MILLI;
+        }
+
+        private String toRow() {
+            return String.format("%-28s %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint, requests, errors, throughputPerSecond, p50Millis, p90Millis, p99Millis, maxMillis);
+        }
+    }
+}
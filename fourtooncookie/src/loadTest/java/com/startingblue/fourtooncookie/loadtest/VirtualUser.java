@@ -0,0 +1,150 @@
+package com.startingblue.fourtooncookie.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// 로그인한 회원 한 명의 행동을 흉내 낸다. 타임라인은 다음 페이지 커서를 따라가고, 새로 쓴 일기도 이후 조회 대상이 된다.
+public class VirtualUser {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final double FOLLOW_NEXT_PAGE_PROBABILITY = 0.3;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final String accessToken;
+    private final Long characterId;
+    private final LoadTestMix mix;
+    private final SplittableRandom random;
+
+    // 그림이 모두 생성된 일기만 합본 이미지 요청 대상으로 삼는다.
+    private final List<Long> completedDiaryIds;
+    private final List<Long> diaryIds;
+    private LocalDate nextDiaryDate;
+    private String nextCursor;
+
+    public VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, URI baseUri, String accessToken, Long characterId,
+                       LoadTestMix mix, long seed, List<Long> completedDiaryIds, LocalDate nextDiaryDate) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.accessToken = accessToken;
+        this.characterId = characterId;
+        this.mix = mix;
+        this.random = new SplittableRandom(seed);
+        this.completedDiaryIds = List.copyOf(completedDiaryIds);
+        this.diaryIds = new ArrayList<>(completedDiaryIds);
+        this.nextDiaryDate = nextDiaryDate;
+    }
+
+    public LatencyRecorder runUntil(long deadlineNanos) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            LoadTestEndpoint endpoint = mix.next(random);
+            HttpRequest request = createRequest(endpoint);
+            long startNanos = System.nanoTime();
+            HttpResponse<byte[]> response = send(request);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            boolean success = response != null && response.statusCode() < 400;
+            recorder.record(endpoint, System.nanoTime() - startNanos, success);
+            if (success) {
+                handleResponse(endpoint, response.body());
+            }
+        }
+        return recorder;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest createRequest(LoadTestEndpoint endpoint) {
+        return switch (endpoint) {
+            case TIMELINE -> get(timelinePath());
+            case DIARY -> get("/diary/" + pick(diaryIds));
+            case FULL_IMAGE -> get("/diary/" + pick(completedDiaryIds) + "/image/full");
+            case CREATE_DIARY -> authorized("/diary")
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofString(createDiaryBody()))
+                    .build();
+        };
+    }
+
+    private String timelinePath() {
+        if (nextCursor != null && random.nextDouble() < FOLLOW_NEXT_PAGE_PROBABILITY) {
+            return "/diary/timeline?cursor=" + URLEncoder.encode(nextCursor, StandardCharsets.UTF_8);
+        }
+        return "/diary/timeline";
+    }
+
+    private String createDiaryBody() {
+        LocalDate diaryDate = nextDiaryDate;
+        nextDiaryDate = nextDiaryDate.plusDays(1);
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "content", "부하 테스트 일기 " + diaryDate,
+                    "diaryDate", diaryDate.toString(),
+                    "characterId", characterId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void handleResponse(LoadTestEndpoint endpoint, byte[] body) {
+        try {
+            readResponse(endpoint, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답을 해석할 수 없습니다. endpoint: " + endpoint.getLabel(), e);
+        }
+    }
+
+    private void readResponse(LoadTestEndpoint endpoint, byte[] body) throws IOException {
+        if (endpoint == LoadTestEndpoint.TIMELINE) {
+            JsonNode cursor = body.length == 0 ? null : objectMapper.readTree(body).get("nextCursor");
+            nextCursor = cursor == null || cursor.isNull() ? null : cursor.asText();
+        } else if (endpoint == LoadTestEndpoint.CREATE_DIARY) {
+            diaryIds.add(objectMapper.readTree(body).get("diaryId").asLong());
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken);
+    }
+
+    private Long pick(List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.startingblue.fourtooncookie.loadtest.aws;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.AbortMultipartUploadPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.CompleteMultipartUploadPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.CreateMultipartUploadPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedAbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedCompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedCreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
+
+// 서명은 실제 S3Presigner 에 맡기고, 애플리케이션이 쓰는 GET 서명에만 지연과 오류를 주입한다.
+public class FaultInjectingS3Presigner implements S3Presigner {
+
+    private final S3Presigner delegate;
+    private final FaultInjector faultInjector;
+
+    public FaultInjectingS3Presigner(S3Presigner delegate, FaultInjector faultInjector) {
+        this.delegate = delegate;
+        this.faultInjector = faultInjector;
+    }
+
+    @Override
+    public PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest getObjectPresignRequest) {
+        faultInjector.inject(() -> SdkClientException.create("Injected presign failure"));
+        return delegate.presignGetObject(getObjectPresignRequest);
+    }
+
+    @Override
+    public PresignedPutObjectRequest presignPutObject(PutObjectPresignRequest putObjectPresignRequest) {
+        return delegate.presignPutObject(putObjectPresignRequest);
+    }
+
+    @Override
+    public PresignedCreateMultipartUploadRequest presignCreateMultipartUpload(CreateMultipartUploadPresignRequest createMultipartUploadPresignRequest) {
+        return delegate.presignCreateMultipartUpload(createMultipartUploadPresignRequest);
+    }
+
+    @Override
+    public PresignedUploadPartRequest presignUploadPart(UploadPartPresignRequest uploadPartPresignRequest) {
+        return delegate.presignUploadPart(uploadPartPresignRequest);
+    }
+
+    @Override
+    public PresignedCompleteMultipartUploadRequest presignCompleteMultipartUpload(CompleteMultipartUploadPresignRequest completeMultipartUploadPresignRequest) {
+        return delegate.presignCompleteMultipartUpload(completeMultipartUploadPresignRequest);
+    }
+
+    @Override
+    public PresignedAbortMultipartUploadRequest presignAbortMultipartUpload(AbortMultipartUploadPresignRequest abortMultipartUploadPresignRequest) {
+        return delegate.presignAbortMultipartUpload(abortMultipartUploadPresignRequest);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
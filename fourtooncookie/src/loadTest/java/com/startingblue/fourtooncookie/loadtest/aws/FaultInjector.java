@@ -0,0 +1,44 @@
+package com.startingblue.fourtooncookie.loadtest.aws;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// 가짜 AWS 클라이언트 호출마다 지연을 주고, 설정한 비율만큼 예외를 던진다.
+public class FaultInjector {
+
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+
+    public FaultInjector(long latencyMillis, long jitterMillis, double errorRate) {
+        if (latencyMillis < 0 || jitterMillis < 0) {
+            throw new IllegalArgumentException("지연 시간은 0 이상이어야 합니다.");
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("오류 비율은 0 이상 1 이하여야 합니다.");
+        }
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+    }
+
+    public void inject(Supplier<? extends RuntimeException> errorSupplier) {
+        sleep();
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw errorSupplier.get();
+        }
+    }
+
+    private void sleep() {
+        long delayMillis = latencyMillis + (jitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+        if (delayMillis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofMillis(delayMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.startingblue.fourtooncookie.loadtest.aws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.lambda.model.GetAccountSettingsRequest;
+import software.amazon.awssdk.services.lambda.model.GetAccountSettingsResponse;
+import software.amazon.awssdk.services.lambda.model.InvokeRequest;
+import software.amazon.awssdk.services.lambda.model.InvokeResponse;
+import software.amazon.awssdk.services.lambda.model.TooManyRequestsException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 그림 생성 Lambda 대신 일기마다 미리 만든 그림 4장을 가짜 S3 에 올리고 성공 응답을 돌려준다.
+public class InMemoryLambdaClient implements LambdaClient {
+
+    private static final String SUCCESS_PAYLOAD = "true";
+    private static final String PANEL_CONTENT_TYPE = "image/png";
+    private static final int PANEL_COUNT = 4;
+    private static final int OK_STATUS = 200;
+    private static final int TOO_MANY_REQUESTS_STATUS = 429;
+
+    private final InMemoryS3Client s3Client;
+    private final ObjectMapper objectMapper;
+    private final FaultInjector faultInjector;
+    private final String bucketName;
+    private final byte[] panelImage;
+    private final AtomicLong invocationCount = new AtomicLong();
+
+    public InMemoryLambdaClient(InMemoryS3Client s3Client, ObjectMapper objectMapper, FaultInjector faultInjector,
+                                String bucketName, byte[] panelImage) {
+        this.s3Client = s3Client;
+        this.objectMapper = objectMapper;
+        this.faultInjector = faultInjector;
+        this.bucketName = bucketName;
+        this.panelImage = panelImage;
+    }
+
+    public long getInvocationCount() {
+        return invocationCount.get();
+    }
+
+    // Lambda 가 생성을 마친 것과 같은 상태로 그림 4장을 저장한다. 부하 테스트 데이터 준비에도 쓴다.
+    public void storePaintingImages(long diaryId) {
+        for (int gridPosition = 0; gridPosition < PANEL_COUNT; gridPosition++) {
+            s3Client.store(bucketName, String.format("%d/%d.png", diaryId, gridPosition), panelImage, PANEL_CONTENT_TYPE);
+        }
+    }
+
+    @Override
+    public InvokeResponse invoke(InvokeRequest invokeRequest) {
+        invocationCount.incrementAndGet();
+        faultInjector.inject(() -> TooManyRequestsException.builder()
+                .statusCode(TOO_MANY_REQUESTS_STATUS)
+                .message("Injected Lambda throttling")
+                .build());
+
+        storePaintingImages(readDiaryId(invokeRequest.payload()));
+        return InvokeResponse.builder()
+                .statusCode(OK_STATUS)
+                .payload(SdkBytes.fromUtf8String(SUCCESS_PAYLOAD))
+                .build();
+    }
+
+    @Override
+    public GetAccountSettingsResponse getAccountSettings(GetAccountSettingsRequest getAccountSettingsRequest) {
+        return GetAccountSettingsResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private long readDiaryId(SdkBytes payload) {
+        try {
+            JsonNode diaryId = objectMapper.readTree(payload.asUtf8String()).get("diaryId");
+            if (diaryId == null || !diaryId.canConvertToLong()) {
+                throw new IllegalArgumentException("Lambda 요청에 diaryId 가 없습니다.");
+            }
+            return diaryId.asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Lambda 요청을 해석할 수 없습니다.", e);
+        }
+    }
+}
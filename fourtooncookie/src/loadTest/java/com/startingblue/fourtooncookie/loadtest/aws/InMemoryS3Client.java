@@ -0,0 +1,165 @@
+package com.startingblue.fourtooncookie.loadtest.aws;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 애플리케이션이 사용하는 S3 API 만 메모리 맵으로 구현한다. 나머지 API 는 SDK 기본 구현대로 UnsupportedOperationException 을 던진다.
+public class InMemoryS3Client implements S3Client {
+
+    private static final String SERVICE_UNAVAILABLE_CODE = "SlowDown";
+    private static final int SERVICE_UNAVAILABLE_STATUS = 503;
+    private static final int NOT_FOUND_STATUS = 404;
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final FaultInjector faultInjector;
+
+    public InMemoryS3Client(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    // 부하 테스트 데이터 준비용으로 지연과 오류 주입 없이 객체를 넣는다.
+    public void store(String bucket, String key, byte[] content, String contentType) {
+        objects.put(toObjectKey(bucket, key), new StoredObject(content, contentType));
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+        injectFault();
+        store(putObjectRequest.bucket(), putObjectRequest.key(), readAll(requestBody), putObjectRequest.contentType());
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest getObjectRequest) {
+        injectFault();
+        StoredObject storedObject = find(getObjectRequest.bucket(), getObjectRequest.key());
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) storedObject.content().length)
+                .contentType(storedObject.contentType())
+                .build();
+        return new ResponseInputStream<>(response, AbortableInputStream.create(new ByteArrayInputStream(storedObject.content())));
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest getObjectRequest,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        ResponseInputStream<GetObjectResponse> objectStream = getObject(getObjectRequest);
+        try (objectStream) {
+            return responseTransformer.transform(objectStream.response(), AbortableInputStream.create(objectStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public HeadBucketResponse headBucket(HeadBucketRequest headBucketRequest) {
+        injectFault();
+        return HeadBucketResponse.builder().build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest headObjectRequest) {
+        injectFault();
+        StoredObject storedObject = find(headObjectRequest.bucket(), headObjectRequest.key());
+        return HeadObjectResponse.builder()
+                .contentLength((long) storedObject.content().length)
+                .contentType(storedObject.contentType())
+                .build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        injectFault();
+        objects.remove(toObjectKey(deleteObjectRequest.bucket(), deleteObjectRequest.key()));
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+        injectFault();
+        List<DeletedObject> deletedObjects = new ArrayList<>();
+        for (ObjectIdentifier objectIdentifier : deleteObjectsRequest.delete().objects()) {
+            objects.remove(toObjectKey(deleteObjectsRequest.bucket(), objectIdentifier.key()));
+            deletedObjects.add(DeletedObject.builder().key(objectIdentifier.key()).build());
+        }
+        // quiet 모드에서는 실제 S3 와 같이 실패한 키만 응답한다.
+        return DeleteObjectsResponse.builder()
+                .deleted(Boolean.TRUE.equals(deleteObjectsRequest.delete().quiet()) ? List.of() : deletedObjects)
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+
+    private void injectFault() {
+        faultInjector.inject(() -> S3Exception.builder()
+                .statusCode(SERVICE_UNAVAILABLE_STATUS)
+                .message("Injected S3 failure: " + SERVICE_UNAVAILABLE_CODE)
+                .build());
+    }
+
+    private StoredObject find(String bucket, String key) {
+        StoredObject storedObject = objects.get(toObjectKey(bucket, key));
+        if (storedObject == null) {
+            throw NoSuchKeyException.builder()
+                    .statusCode(NOT_FOUND_STATUS)
+                    .message("The specified key does not exist. Key: " + key)
+                    .build();
+        }
+        return storedObject;
+    }
+
+    private byte[] readAll(RequestBody requestBody) {
+        try (InputStream inputStream = requestBody.contentStreamProvider().newStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toObjectKey(String bucket, String key) {
+        return bucket + "/" + key;
+    }
+
+    private record StoredObject(byte[] content, String contentType) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.startingblue.fourtooncookie.loadtest.aws;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// S3Config, LambdaConfig 의 AWS 클라이언트를 메모리 구현으로 대체한다.
+@TestConfiguration(proxyBeanMethods = false)
+public class LoadTestAwsConfig {
+
+    private static final Region REGION = Region.AP_NORTHEAST_2;
+    private static final String FAKE_ACCESS_KEY = "load-test-access-key";
+    private static final String FAKE_SECRET_KEY = "load-test-secret-key";
+
+    @Bean
+    @Primary
+    public InMemoryS3Client inMemoryS3Client(@Value("${loadtest.s3.latency-millis:0}") long latencyMillis,
+                                             @Value("${loadtest.s3.jitter-millis:0}") long jitterMillis,
+                                             @Value("${loadtest.s3.error-rate:0}") double errorRate) {
+        return new InMemoryS3Client(new FaultInjector(latencyMillis, jitterMillis, errorRate));
+    }
+
+    @Bean
+    @Primary
+    public S3Presigner faultInjectingS3Presigner(@Value("${loadtest.presigner.latency-millis:0}") long latencyMillis,
+                                                 @Value("${loadtest.presigner.jitter-millis:0}") long jitterMillis,
+                                                 @Value("${loadtest.presigner.error-rate:0}") double errorRate) {
+        // 서명은 네트워크 호출 없이 로컬에서 계산되므로 고정 자격 증명으로 실제 구현을 사용한다.
+        S3Presigner s3Presigner = S3Presigner.builder()
+                .region(REGION)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(FAKE_ACCESS_KEY, FAKE_SECRET_KEY)))
+                .build();
+        return new FaultInjectingS3Presigner(s3Presigner, new FaultInjector(latencyMillis, jitterMillis, errorRate));
+    }
+
+    @Bean
+    @Primary
+    public InMemoryLambdaClient inMemoryLambdaClient(InMemoryS3Client inMemoryS3Client,
+                                                     ObjectMapper objectMapper,
+                                                     @Value("${aws.diaryimage.bucket.name}") String bucketName,
+                                                     @Value("${loadtest.lambda.latency-millis:0}") long latencyMillis,
+                                                     @Value("${loadtest.lambda.jitter-millis:0}") long jitterMillis,
+                                                     @Value("${loadtest.lambda.error-rate:0}") double errorRate,
+                                                     @Value("${loadtest.lambda.panel-size:256}") int panelSize) {
+        return new InMemoryLambdaClient(inMemoryS3Client, objectMapper, new FaultInjector(latencyMillis, jitterMillis, errorRate),
+                bucketName, createPanelImage(panelSize));
+    }
+
+    private static byte[] createPanelImage(int panelSize) {
+        BufferedImage image = new BufferedImage(panelSize, panelSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, panelSize, panelSize);
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.drawOval(panelSize / 4, panelSize / 4, panelSize / 2, panelSize / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
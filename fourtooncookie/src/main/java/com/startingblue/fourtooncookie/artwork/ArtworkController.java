@@ -2,13 +2,16 @@ package com.startingblue.fourtooncookie.artwork;
 
 import com.startingblue.fourtooncookie.artwork.dto.request.ArtworkSaveRequest;
 import com.startingblue.fourtooncookie.artwork.dto.request.ArtworkUpdateRequest;
-import com.startingblue.fourtooncookie.artwork.dto.response.ArtworkSavedResponses;
 import com.startingblue.fourtooncookie.artwork.service.ArtworkService;
+import com.startingblue.fourtooncookie.global.cache.CatalogSnapshot;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,10 +20,22 @@ public class ArtworkController {
 
     private final ArtworkService artworkService;
 
-    @GetMapping
-    public ResponseEntity<ArtworkSavedResponses> readAllArtwork() {
+    // 직렬화된 카탈로그 스냅샷을 그대로 내려주며, ETag 가 일치하면 본문 없이 304 를 반환한다.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> readAllArtwork(WebRequest webRequest) {
+        CatalogSnapshot snapshot = artworkService.readCatalogSnapshot();
+        if (webRequest.checkNotModified(snapshot.eTag())) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.eTag())
+                    .build();
+        }
         return ResponseEntity
-                .ok(ArtworkSavedResponses.of(artworkService.readAllArtworks()));
+                .ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(snapshot.eTag())
+                .body(snapshot.body());
     }
 
     @PostMapping
@@ -1,7 +1,7 @@
 package com.startingblue.fourtooncookie.artwork.domain;
 
+import com.startingblue.fourtooncookie.global.domain.DomainValidator;
 import jakarta.persistence.*;
-import jakarta.validation.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -13,7 +13,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.net.URL;
 import java.util.Objects;
-import java.util.Set;
 
 @Entity
 @Slf4j
@@ -48,12 +47,7 @@ public class Artwork {
     }
 
     private void validate() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-        Set<ConstraintViolation<Artwork>> violations = validator.validate(this);
-        if (!violations.isEmpty()) {
-            throw new ConstraintViolationException(violations);
-        }
+        DomainValidator.validate(this);
     }
 
     @Override
@@ -0,0 +1,19 @@
+package com.startingblue.fourtooncookie.artwork.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startingblue.fourtooncookie.global.cache.CatalogSnapshotCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArtworkCatalogCache extends CatalogSnapshotCache {
+
+    private static final String CACHE_NAME = "artworkCatalog";
+
+    public ArtworkCatalogCache(ObjectMapper objectMapper,
+                               @Value("${artwork.catalog-cache.ttl-seconds:300}") Long timeToLiveInSeconds,
+                               MeterRegistry meterRegistry) {
+        super(objectMapper, timeToLiveInSeconds, meterRegistry, CACHE_NAME);
+    }
+}
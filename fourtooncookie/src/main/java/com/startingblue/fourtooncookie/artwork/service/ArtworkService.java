@@ -4,10 +4,14 @@ import com.startingblue.fourtooncookie.artwork.domain.Artwork;
 import com.startingblue.fourtooncookie.artwork.domain.ArtworkRepository;
 import com.startingblue.fourtooncookie.artwork.dto.request.ArtworkSaveRequest;
 import com.startingblue.fourtooncookie.artwork.dto.request.ArtworkUpdateRequest;
+import com.startingblue.fourtooncookie.artwork.dto.response.ArtworkSavedResponses;
 import com.startingblue.fourtooncookie.artwork.exception.ArtworkDuplicateException;
 import com.startingblue.fourtooncookie.artwork.exception.ArtworkNotFoundException;
+import com.startingblue.fourtooncookie.character.service.CharacterCatalogCache;
+import com.startingblue.fourtooncookie.global.cache.CatalogSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URL;
@@ -19,10 +23,13 @@ import java.util.List;
 public class ArtworkService {
 
     private final ArtworkRepository artworkRepository;
+    private final ArtworkCatalogCache artworkCatalogCache;
+    private final CharacterCatalogCache characterCatalogCache;
 
     public void createArtwork(ArtworkSaveRequest request) {
         verifyUniqueArtwork(request.title(), request.thumbnailUrl());
         artworkRepository.save(new Artwork(request.title(), request.thumbnailUrl()));
+        invalidateCatalogs();
     }
 
     @Transactional(readOnly = true)
@@ -30,15 +37,23 @@ public class ArtworkService {
         return artworkRepository.findAll();
     }
 
+    // 캐시 적중 시 트랜잭션과 커넥션 없이 직렬화된 응답을 그대로 반환한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogSnapshot readCatalogSnapshot() {
+        return artworkCatalogCache.get(() -> ArtworkSavedResponses.of(artworkRepository.findAll()));
+    }
+
     public void updateArtwork(Long artworkId, ArtworkUpdateRequest request) {
         Artwork artwork = readById(artworkId);
         artwork.update(request.title(), request.thumbnailUrl());
         artworkRepository.save(artwork);
+        invalidateCatalogs();
     }
 
     public void deleteArtwork(Long artworkId) {
         Artwork artwork = readById(artworkId);
         artworkRepository.delete(artwork);
+        invalidateCatalogs();
     }
 
     @Transactional(readOnly = true)
@@ -56,6 +71,10 @@ public class ArtworkService {
             throw new ArtworkDuplicateException("Artwork with thumbnail URL '" + thumbnailUrl + "' already exists.");
         }
     }
-}
-
 
+    // 캐릭터 카탈로그 응답에도 작품명과 썸네일이 포함된다.
+    private void invalidateCatalogs() {
+        artworkCatalogCache.invalidate();
+        characterCatalogCache.invalidate();
+    }
+}
@@ -1,5 +1,6 @@
 package com.startingblue.fourtooncookie.aws.lambda;
 
+import com.startingblue.fourtooncookie.global.monitoring.AwsSdkObservationInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
@@ -19,13 +20,14 @@ public class LambdaConfig {
     private static final Region region = Region.AP_NORTHEAST_2;
 
     @Bean
-    public LambdaClient lambdaClient() {
+    public LambdaClient lambdaClient(AwsSdkObservationInterceptor awsSdkObservationInterceptor) {
         return LambdaClient.builder()
                 .overrideConfiguration(
                         ClientOverrideConfiguration.builder()
                                 .retryPolicy(RetryPolicy.none()) // Retry 설정 (필요에 따라 변경 가능)
                                 .apiCallTimeout(Duration.ofMinutes(3)) // 전체 API 호출 타임아웃 설정
                                 .apiCallAttemptTimeout(Duration.ofMinutes(3)) // 개별 호출 시도에 대한 타임아웃 설정
+                                .addExecutionInterceptor(awsSdkObservationInterceptor) // 호출 시간 메트릭, 스팬 기록
                                 .build()
                 )
                 .httpClient(
@@ -0,0 +1,39 @@
+package com.startingblue.fourtooncookie.aws.lambda;
+
+import com.startingblue.fourtooncookie.global.monitoring.CachedHealthIndicator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.lambda.model.GetAccountSettingsRequest;
+import software.amazon.awssdk.services.lambda.model.GetAccountSettingsResponse;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+// 함수를 실행하지 않고 GetAccountSettings 로 Lambda 엔드포인트, 자격 증명, 리전 설정을 확인한다. (lambda:GetAccountSettings 권한 필요)
+@Component
+public class LambdaHealthIndicator extends CachedHealthIndicator {
+
+    private static final Duration CHECK_TIMEOUT = Duration.ofSeconds(5);
+
+    private final LambdaClient lambdaClient;
+
+    public LambdaHealthIndicator(LambdaClient lambdaClient, @Qualifier("healthCheckExecutor") Executor healthCheckExecutor) {
+        super(healthCheckExecutor);
+        this.lambdaClient = lambdaClient;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        GetAccountSettingsResponse response = lambdaClient.getAccountSettings(GetAccountSettingsRequest.builder()
+                .overrideConfiguration(configuration -> configuration
+                        .apiCallTimeout(CHECK_TIMEOUT)
+                        .apiCallAttemptTimeout(CHECK_TIMEOUT))
+                .build());
+        builder.up();
+        if (response.accountLimit() != null) {
+            builder.withDetail("concurrentExecutions", response.accountLimit().concurrentExecutions());
+        }
+    }
+}
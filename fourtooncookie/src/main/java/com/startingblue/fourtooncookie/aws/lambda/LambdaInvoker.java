@@ -1,5 +1,7 @@
 package com.startingblue.fourtooncookie.aws.lambda;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.lambda.LambdaClient;
@@ -9,17 +11,33 @@ import software.amazon.awssdk.services.lambda.model.InvokeRequest;
 @Slf4j
 public abstract class LambdaInvoker {
 
+    private static final String OBSERVATION_NAME = "aws.lambda.invocations";
+
     private final LambdaClient lambdaClient;
+    private final ObservationRegistry observationRegistry;
     private final String functionName;
     private final InvocationType invocationType;
 
-    public LambdaInvoker(LambdaClient lambdaClient, String functionName, InvocationType invocationType) {
+    public LambdaInvoker(LambdaClient lambdaClient, ObservationRegistry observationRegistry, String functionName, InvocationType invocationType) {
         this.lambdaClient = lambdaClient;
+        this.observationRegistry = observationRegistry;
         this.functionName = functionName;
         this.invocationType = invocationType;
     }
 
+    protected boolean isEventInvocation() {
+        return invocationType == InvocationType.EVENT;
+    }
+
+    // 직렬화부터 응답 확인까지의 시간을 함수 이름, 호출 유형별로 기록한다.
     public void invokeLambda(Object payload) {
+        Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .lowCardinalityKeyValue("function", functionName)
+                .lowCardinalityKeyValue("invocation.type", invocationType.toString())
+                .observe(() -> invoke(payload));
+    }
+
+    private void invoke(Object payload) {
         try {
             log.info("Invoking Lambda function: {} with payload: {}", functionName);
 
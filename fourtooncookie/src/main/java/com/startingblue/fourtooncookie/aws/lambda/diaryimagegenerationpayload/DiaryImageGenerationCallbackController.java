@@ -0,0 +1,31 @@
+package com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.ResponseEntity.*;
+
+@RestController
+@RequestMapping("/lambda/diary-image")
+@RequiredArgsConstructor
+@Slf4j
+public class DiaryImageGenerationCallbackController {
+
+    private final DiaryImageGenerationLambdaInvoker diaryImageGenerationLambdaInvoker;
+
+    @PostMapping("/callback")
+    public ResponseEntity<HttpStatus> completeDiaryImageGeneration(@RequestBody final DiaryImageGenerationCallbackRequest request) {
+        if (request.diaryId() == null || request.generation() == null || !request.isTerminal()) {
+            log.warn("Invalid diary image generation callback: {}", request);
+            return badRequest().build();
+        }
+        diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(request.diaryId(), request.generation(), request.status());
+        return ok().build();
+    }
+}
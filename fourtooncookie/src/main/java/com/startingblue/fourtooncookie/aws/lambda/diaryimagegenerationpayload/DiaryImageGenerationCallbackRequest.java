@@ -0,0 +1,10 @@
+package com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload;
+
+import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+
+public record DiaryImageGenerationCallbackRequest(Long diaryId, Integer generation, DiaryStatus status) {
+
+    public boolean isTerminal() {
+        return status == DiaryStatus.COMPLETED || status == DiaryStatus.FAILED;
+    }
+}
@@ -3,12 +3,19 @@ package com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.startingblue.fourtooncookie.aws.lambda.LambdaInvoker;
+import com.startingblue.fourtooncookie.aws.s3.service.DiaryImageS3Service;
 import com.startingblue.fourtooncookie.character.domain.Character;
 import com.startingblue.fourtooncookie.diary.domain.Diary;
 import com.startingblue.fourtooncookie.diary.domain.DiaryRepository;
 import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.diary.exception.DiaryLambdaInvocationException;
+import com.startingblue.fourtooncookie.diary.exception.DiaryNotFoundException;
+import com.startingblue.fourtooncookie.diary.service.DiaryImageGenerationJobService;
+import com.startingblue.fourtooncookie.diary.service.DiaryStatusMetrics;
+import com.startingblue.fourtooncookie.global.monitoring.TraceContextPropagation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.lambda.LambdaClient;
@@ -24,48 +31,99 @@ public class DiaryImageGenerationLambdaInvoker extends LambdaInvoker {
 
     private final DiaryRepository diaryRepository;
 
-    public DiaryImageGenerationLambdaInvoker(LambdaClient lambdaClient, ObjectMapper objectMapper, DiaryRepository diaryRepository) {
-        super(lambdaClient, FUNCTION_NAME, InvocationType.REQUEST_RESPONSE);
+    private final DiaryImageS3Service diaryImageS3Service;
+
+    private final DiaryStatusMetrics diaryStatusMetrics;
+
+    private final DiaryImageGenerationJobService diaryImageGenerationJobService;
+
+    private final TraceContextPropagation traceContextPropagation;
+
+    private final String callbackUrl;
+
+    public DiaryImageGenerationLambdaInvoker(LambdaClient lambdaClient,
+                                             ObservationRegistry observationRegistry,
+                                             ObjectMapper objectMapper,
+                                             DiaryRepository diaryRepository,
+                                             DiaryImageS3Service diaryImageS3Service,
+                                             DiaryStatusMetrics diaryStatusMetrics,
+                                             DiaryImageGenerationJobService diaryImageGenerationJobService,
+                                             TraceContextPropagation traceContextPropagation,
+                                             @Value("${aws.lambda.diaryimage.invocation-type:REQUEST_RESPONSE}") InvocationType invocationType,
+                                             @Value("${aws.lambda.diaryimage.callback-url:}") String callbackUrl) {
+        super(lambdaClient, observationRegistry, FUNCTION_NAME, invocationType);
+        this.callbackUrl = callbackUrl;
         this.objectMapper = objectMapper;
         this.diaryRepository = diaryRepository;
+        this.diaryImageS3Service = diaryImageS3Service;
+        this.diaryStatusMetrics = diaryStatusMetrics;
+        this.diaryImageGenerationJobService = diaryImageGenerationJobService;
+        this.traceContextPropagation = traceContextPropagation;
+    }
+
+    // 호출이 실패하면 예외를 던지며, 재시도는 아웃박스 디스패처가 담당한다.
+    // EVENT 호출은 접수만 확인되므로 IN_PROGRESS 를 반환하고, 완료 처리는 콜백에서 한다.
+    public DiaryStatus invokeDiaryImageGenerationLambda(Long diaryId, int generation) {
+        Diary diary = diaryRepository.findWithCharacterById(diaryId)
+                .orElseThrow(DiaryNotFoundException::new);
+        DiaryImageGenerationLambdaPayload diaryImageGenerationLambdaPayload = buildPayload(diary, diary.getCharacter(), generation);
+        invokeLambda(serializePayload(diaryImageGenerationLambdaPayload));
+        return isEventInvocation() ? DiaryStatus.IN_PROGRESS : DiaryStatus.COMPLETED;
     }
 
-    @Async
+    // 생성 중에 일기가 수정되면 생성이 겹친다. 가장 최근에 요청한 생성의 완료만 반영하고, 이전 생성과 중복 완료는 버린다.
+    // 완료가 도착한 생성의 아웃박스 작업은 반영 여부와 관계없이 지워 콜백 기한 만료로 처리되지 않게 한다.
     @Transactional
-    public void invokeDiaryImageGenerationLambda(Diary diary, Character character) {
-        DiaryStatus status = DiaryStatus.IN_PROGRESS;
-        try {
-            DiaryImageGenerationLambdaPayload diaryImageGenerationLambdaPayload = buildPayload(diary, character);
-            String serializePayload = serializePayload(diaryImageGenerationLambdaPayload);
-            invokeLambda(serializePayload);
-            status = DiaryStatus.COMPLETED;
-        } catch (Exception e) {
-            log.error("Lambda 호출 중 오류 발생: {}", e.getMessage());
-            status = DiaryStatus.FAILED;
-        } finally {
-            handleLambdaResult(diary, status);
+    public void completeDiaryImageGeneration(Long diaryId, int generation, DiaryStatus status) {
+        diaryImageGenerationJobService.completeByDiaryIdAndGeneration(diaryId, generation);
+        Diary diary = diaryRepository.findById(diaryId)
+                .orElseThrow(DiaryNotFoundException::new);
+        if (!diary.isCurrentPaintingGeneration(generation)) {
+            log.info("Ignoring stale completion for diaryId: {}, generation: {}", diaryId, generation);
+            return;
+        }
+        if (diary.getStatus() != DiaryStatus.IN_PROGRESS) {
+            log.info("Ignoring duplicate completion for diaryId: {}", diaryId);
+            return;
         }
+        handleLambdaResult(diary, status);
     }
 
-    private String serializePayload(DiaryImageGenerationLambdaPayload payload) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(payload);
+    private String serializePayload(DiaryImageGenerationLambdaPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new DiaryLambdaInvocationException("Lambda 요청 직렬화 중 오류가 발생했습니다.", e);
+        }
     }
 
-    private DiaryImageGenerationLambdaPayload buildPayload(Diary diary, Character character) {
+    private DiaryImageGenerationLambdaPayload buildPayload(Diary diary, Character character, int generation) {
         return new DiaryImageGenerationLambdaPayload(
                 diary.getId(),
+                generation,
                 diary.getContent(),
                 new DiaryImageGenerationCharacterPayload(
                         character.getId(),
                         character.getName(),
                         character.getCharacterVisionType().name(),
                         character.getBasePrompt()
-                )
+                ),
+                isEventInvocation() ? callbackUrl : null,
+                traceContextPropagation.currentTraceParent()
         );
     }
 
     private void handleLambdaResult(Diary diary, DiaryStatus status) {
+        diaryStatusMetrics.recordTransition(diary.getStatus(), status);
         diary.updateDiaryStatus(status);
+        int previousPaintingImageVersion = diary.getPaintingImageVersion();
+        if (status == DiaryStatus.COMPLETED) {
+            diary.markAllPaintingImagesPresent();
+            diary.increasePaintingImageVersion();
+        }
         diaryRepository.save(diary);
+        if (status == DiaryStatus.COMPLETED) {
+            diaryImageS3Service.deleteFullImage(diary.getId(), previousPaintingImageVersion);
+        }
     }
 }
@@ -1,5 +1,8 @@
 package com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload;
 
-public record DiaryImageGenerationLambdaPayload(Long diaryId, String content, DiaryImageGenerationCharacterPayload character) {
+// generation 은 콜백에 그대로 돌려받아 가장 최근 생성의 완료인지 확인하는 데 쓴다.
+// traceParent 는 호출 시점의 W3C traceparent 로, Lambda 로그와 콜백 요청을 같은 trace 로 묶는 데 쓴다. 추적이 꺼져 있으면 null 이다.
+public record DiaryImageGenerationLambdaPayload(Long diaryId, int generation, String content, DiaryImageGenerationCharacterPayload character, String callbackUrl,
+                                                String traceParent) {
 
 }
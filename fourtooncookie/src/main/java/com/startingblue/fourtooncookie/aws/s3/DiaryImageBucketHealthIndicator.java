@@ -0,0 +1,39 @@
+package com.startingblue.fourtooncookie.aws.s3;
+
+import com.startingblue.fourtooncookie.global.monitoring.CachedHealthIndicator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+// 일기 이미지 버킷에 HEAD 요청을 보내 접근 가능 여부를 확인한다. (s3:ListBucket 권한 필요)
+@Component
+public class DiaryImageBucketHealthIndicator extends CachedHealthIndicator {
+
+    private static final Duration CHECK_TIMEOUT = Duration.ofSeconds(5);
+
+    private final S3Client s3Client;
+    private final String bucketName;
+
+    public DiaryImageBucketHealthIndicator(S3Client s3Client,
+                                           @Value("${aws.diaryimage.bucket.name}") String bucketName,
+                                           @Qualifier("healthCheckExecutor") Executor healthCheckExecutor) {
+        super(healthCheckExecutor);
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        s3Client.headBucket(HeadBucketRequest.builder()
+                .bucket(bucketName)
+                .overrideConfiguration(configuration -> configuration.apiCallTimeout(CHECK_TIMEOUT))
+                .build());
+        builder.up().withDetail("bucket", bucketName);
+    }
+}
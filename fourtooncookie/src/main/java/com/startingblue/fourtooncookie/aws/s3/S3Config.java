@@ -1,20 +1,38 @@
 package com.startingblue.fourtooncookie.aws.s3;
 
+import com.startingblue.fourtooncookie.global.monitoring.AwsSdkObservationInterceptor;
+import com.startingblue.fourtooncookie.global.monitoring.CountingRejectedExecutionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class S3Config {
 
     private static final Region region = Region.AP_NORTHEAST_2;
 
+    @Value("${aws.diaryimage.executor.pool-size:32}")
+    private Integer diaryImageExecutorPoolSize;
+
+    @Value("${aws.diaryimage.executor.queue-capacity:256}")
+    private Integer diaryImageExecutorQueueCapacity;
+
     @Bean
-    public S3Client s3Client() {
+    public S3Client s3Client(AwsSdkObservationInterceptor awsSdkObservationInterceptor) {
         return S3Client.builder()
                 .region(region)
+                .overrideConfiguration(configuration -> configuration.addExecutionInterceptor(awsSdkObservationInterceptor))
                 .build();
     }
 
@@ -25,4 +43,31 @@ public class S3Config {
                 .build();
     }
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean(name = "diaryImageS3Executor")
+    public AsyncTaskExecutor diaryImageS3Executor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        if (virtualThreadsEnabled) {
+            // 가상 스레드는 요청마다 새로 만들고, 동시 S3 호출 수만 풀 크기로 제한한다.
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("DiaryImageS3-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            executor.setConcurrencyLimit(diaryImageExecutorPoolSize);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(diaryImageExecutorPoolSize);
+        executor.setMaxPoolSize(diaryImageExecutorPoolSize);
+        executor.setQueueCapacity(diaryImageExecutorQueueCapacity);
+        executor.setThreadNamePrefix("DiaryImageS3-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        // 큐가 가득 차면 요청 스레드에서 직접 실행하여 S3 호출이 유실되지 않도록 한다.
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(
+                "diaryImageS3Executor", new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistryProvider));
+        executor.initialize();
+        return executor;
+    }
+
 }
@@ -0,0 +1,84 @@
+package com.startingblue.fourtooncookie.aws.s3.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@Component
+public class DiaryImagePreSignedUrlCache {
+
+    private static final int MIN_GRID_POSITION = 0;
+    private static final int MAX_GRID_POSITION = 3;
+    private static final String CACHE_NAME = "diaryImagePreSignedUrl";
+
+    private final Cache<PreSignedUrlKey, URL> cache;
+
+    private final Integer preSignedUrlDurationInMinutes;
+
+    private final Long safetyMarginInSeconds;
+
+    public DiaryImagePreSignedUrlCache(@Value("${aws.diaryimage.presignedurl.duration}") Integer preSignedUrlDurationInMinutes,
+                                       @Value("${aws.diaryimage.presignedurl.cache.safety-margin-seconds:60}") Long safetyMarginInSeconds,
+                                       @Value("${aws.diaryimage.presignedurl.cache.maximum-size:10000}") Long maximumSize,
+                                       MeterRegistry meterRegistry) {
+        this.preSignedUrlDurationInMinutes = preSignedUrlDurationInMinutes;
+        this.safetyMarginInSeconds = safetyMarginInSeconds;
+        this.cache = Caffeine.newBuilder()
+                .expireAfter(new PreSignedUrlExpiry())
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public URL get(Long diaryId, Integer gridPosition, Supplier<URL> preSignedUrlSupplier) {
+        return cache.get(new PreSignedUrlKey(diaryId, gridPosition), key -> preSignedUrlSupplier.get());
+    }
+
+    public URL getIfPresent(Long diaryId, Integer gridPosition) {
+        return cache.getIfPresent(new PreSignedUrlKey(diaryId, gridPosition));
+    }
+
+    public void evict(Long diaryId) {
+        cache.invalidateAll(IntStream.rangeClosed(MIN_GRID_POSITION, MAX_GRID_POSITION)
+                .mapToObj(gridPosition -> new PreSignedUrlKey(diaryId, gridPosition))
+                .toList());
+    }
+
+    // 서명 만료 시점보다 안전 마진만큼 먼저 제거하여 만료 직전의 URL이 응답되지 않도록 한다.
+    // 유효 기간 설정이 비어 있어도 빈 생성은 되도록, 만료 시간은 항목을 넣을 때 계산한다.
+    private Duration timeToLive() {
+        Duration timeToLive = Duration.ofMinutes(preSignedUrlDurationInMinutes).minusSeconds(safetyMarginInSeconds);
+        return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+    }
+
+    private class PreSignedUrlExpiry implements Expiry<PreSignedUrlKey, URL> {
+
+        @Override
+        public long expireAfterCreate(PreSignedUrlKey key, URL url, long currentTime) {
+            return timeToLive().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(PreSignedUrlKey key, URL url, long currentTime, long currentDuration) {
+            return timeToLive().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(PreSignedUrlKey key, URL url, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private record PreSignedUrlKey(Long diaryId, Integer gridPosition) {
+    }
+}
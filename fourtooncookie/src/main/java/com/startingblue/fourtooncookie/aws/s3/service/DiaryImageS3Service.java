@@ -1,37 +1,51 @@
 package com.startingblue.fourtooncookie.aws.s3.service;
 
 import com.startingblue.fourtooncookie.aws.s3.exception.*;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
 import javax.imageio.ImageIO;
-import java.awt.*;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
 
-@RequiredArgsConstructor
+// 공개 메서드마다 diary.image.s3 타이머(class, method 태그)를 남긴다. 개별 SDK 호출 시간은 aws.sdk.requests 로 따로 기록된다.
+@Slf4j
 @Service
+@Observed(name = "diary.image.s3")
 public class DiaryImageS3Service {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final Executor diaryImageS3Executor;
+    private final DiaryImagePreSignedUrlCache preSignedUrlCache;
 
     @Value("${aws.diaryimage.bucket.name}")
     private String bucketName;
@@ -39,8 +53,28 @@ public class DiaryImageS3Service {
     @Value("${aws.diaryimage.presignedurl.duration}")
     private Integer preSignedUrlDurationInMinutes;
 
+    @Value("${aws.diaryimage.presignedurl.timeout-millis:3000}")
+    private Long preSignedUrlTimeoutInMillis;
+
+    @Value("${aws.diaryimage.download.timeout-millis:10000}")
+    private Long downloadTimeoutInMillis;
+
     private static final String IMAGE_FORMAT = ".png";
+    private static final String IMAGE_FORMAT_NAME = "png";
     private static final String CONTENT_TYPE = "image/png";
+    private static final int MIN_GRID_POSITION = 0;
+    private static final int MAX_GRID_POSITION = 3;
+    private static final int MAX_DELETE_OBJECTS_KEYS = 1000;
+
+    public DiaryImageS3Service(S3Client s3Client,
+                               S3Presigner s3Presigner,
+                               @Qualifier("diaryImageS3Executor") Executor diaryImageS3Executor,
+                               DiaryImagePreSignedUrlCache preSignedUrlCache) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.diaryImageS3Executor = diaryImageS3Executor;
+        this.preSignedUrlCache = preSignedUrlCache;
+    }
 
     public void uploadImage(Long diaryId, byte[] image, Integer gridPosition) {
         String keyName = getKeyName(diaryId, gridPosition);
@@ -65,12 +99,33 @@ public class DiaryImageS3Service {
     }
 
     public URL generatePreSignedImageUrl(Long diaryId, Integer gridPosition) {
-        if (!isImageExist(diaryId, gridPosition)) {
+        return generatePreSignedImageUrl(diaryId, gridPosition, null);
+    }
+
+    private URL generatePreSignedImageUrl(Long diaryId, Integer gridPosition, Long deadline) {
+        // 캐시된 URL은 이미 존재가 확인된 이미지이므로 HEAD 요청을 생략한다.
+        URL cachedPreSignedUrl = preSignedUrlCache.getIfPresent(diaryId, gridPosition);
+        if (cachedPreSignedUrl != null) {
+            return cachedPreSignedUrl;
+        }
+
+        if (!isObjectExist(getKeyName(diaryId, gridPosition), deadline)) {
             throw new S3ImageNotFoundException(String.format("S3에 이미지가 존재하지 않습니다. Key: %s", getKeyName(diaryId, gridPosition)));
         }
 
-        String keyName = getKeyName(diaryId, gridPosition);
+        return presignImageUrl(diaryId, gridPosition);
+    }
+
+    // 존재가 확인된 이미지에 대해 네트워크 호출 없이 로컬에서 서명만 수행한다.
+    public URL presignImageUrl(Long diaryId, Integer gridPosition) {
+        return preSignedUrlCache.get(diaryId, gridPosition, () -> signImageUrl(getKeyName(diaryId, gridPosition)));
+    }
+
+    public void evictPreSignedImageUrls(Long diaryId) {
+        preSignedUrlCache.evict(diaryId);
+    }
 
+    private URL signImageUrl(String keyName) {
         try {
             GetObjectPresignRequest getObjectPresignRequest = createGetObjectPresignRequest(keyName);
             PresignedGetObjectRequest preSignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
@@ -80,6 +135,42 @@ public class DiaryImageS3Service {
         }
     }
 
+    public Map<Long, List<URL>> generatePreSignedImageUrls(List<Long> diaryIds) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(preSignedUrlTimeoutInMillis);
+
+        Map<Long, List<CompletableFuture<URL>>> preSignedUrlFutures = new LinkedHashMap<>();
+        for (Long diaryId : diaryIds) {
+            preSignedUrlFutures.put(diaryId, IntStream.rangeClosed(MIN_GRID_POSITION, MAX_GRID_POSITION)
+                    .mapToObj(gridPosition -> CompletableFuture.supplyAsync(
+                            () -> generatePreSignedImageUrl(diaryId, gridPosition, deadline), diaryImageS3Executor))
+                    .toList());
+        }
+
+        Map<Long, List<URL>> preSignedUrls = new LinkedHashMap<>();
+        preSignedUrlFutures.forEach((diaryId, futures) -> preSignedUrls.put(diaryId, futures.stream()
+                .map(future -> awaitPreSignedImageUrl(diaryId, future, deadline))
+                .filter(Objects::nonNull)
+                .toList()));
+        return preSignedUrls;
+    }
+
+    private URL awaitPreSignedImageUrl(Long diaryId, CompletableFuture<URL> future, long deadline) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업만 건너뛴다. 실행 중인 HEAD 요청은 apiCallTimeout 으로 끝난다.
+            future.cancel(true);
+            log.error("Timed out generating pre-signed image URL for diaryId: {}", diaryId);
+            return null;
+        } catch (ExecutionException e) {
+            log.error("Failed to generate pre-signed image URL for diaryId: {}", diaryId, e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
     private GetObjectPresignRequest createGetObjectPresignRequest(String keyName) {
         return GetObjectPresignRequest.builder()
                 .getObjectRequest(r -> r.bucket(bucketName).key(keyName))
@@ -88,9 +179,12 @@ public class DiaryImageS3Service {
     }
 
     public boolean isImageExist(Long diaryId, Integer gridPosition) {
-        String keyName = getKeyName(diaryId, gridPosition);
+        return isObjectExist(getKeyName(diaryId, gridPosition), null);
+    }
+
+    private boolean isObjectExist(String keyName, Long deadline) {
         try {
-            HeadObjectRequest headObjectRequest = createHeadObjectRequest(keyName);
+            HeadObjectRequest headObjectRequest = createHeadObjectRequest(keyName, deadline);
             s3Client.headObject(headObjectRequest);
             return true;
         } catch (NoSuchKeyException e) {
@@ -100,64 +194,197 @@ public class DiaryImageS3Service {
         }
     }
 
-    private HeadObjectRequest createHeadObjectRequest(String keyName) {
-        return HeadObjectRequest.builder()
+    private HeadObjectRequest createHeadObjectRequest(String keyName, Long deadline) {
+        return withDeadline(HeadObjectRequest.builder()
                 .bucket(bucketName)
-                .key(keyName)
+                .key(keyName), deadline)
                 .build();
     }
 
-    public List<byte[]> downloadImages(Long diaryId) {
-        List<byte[]> downloadedImages = new ArrayList<>();
+    // CompletableFuture.cancel 은 실행 중인 SDK 호출을 멈추지 못하므로, 요청마다 남은 시간을 apiCallTimeout 으로 건다.
+    // 시간이 지나면 SDK 가 HTTP 요청을 중단해 diaryImageS3Executor 스레드를 바로 돌려받는다. deadline 이 null 이면 클라이언트 기본값을 따른다.
+    private <B extends AwsRequest.Builder> B withDeadline(B requestBuilder, Long deadline) {
+        if (deadline != null) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            requestBuilder.overrideConfiguration(configuration -> configuration.apiCallTimeout(Duration.ofMillis(Math.max(1L, remainingMillis))));
+        }
+        return requestBuilder;
+    }
+
+    public Optional<InputStream> openFullImage(Long diaryId, Integer version) {
+        String keyName = getFullImageKeyName(diaryId, version);
 
-        for (int gridPosition = 0; gridPosition < 4; gridPosition++) {
-            byte[] imageData = downloadImage(diaryId, gridPosition);
-            downloadedImages.add(imageData);
+        try {
+            return Optional.of(s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(keyName)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (Exception e) {
+            throw new S3Exception(String.format("S3에서 이미지 다운로드 중 오류가 발생했습니다. Key: %s", keyName), e);
         }
+    }
 
-        return downloadedImages;
+    public Optional<URL> presignFullImageUrl(Long diaryId, Integer version) {
+        String keyName = getFullImageKeyName(diaryId, version);
+        if (!isObjectExist(keyName, null)) {
+            return Optional.empty();
+        }
+        return Optional.of(signImageUrl(keyName));
     }
 
-    private byte[] downloadImage(Long diaryId, Integer gridPosition) {
-        String keyName = getKeyName(diaryId, gridPosition);
+    public void uploadFullImage(Long diaryId, Integer version, byte[] image) {
+        String keyName = getFullImageKeyName(diaryId, version);
+        try {
+            PutObjectRequest putObjectRequest = createPutObjectRequest(keyName);
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(image));
+        } catch (Exception e) {
+            throw new S3UploadException(String.format("S3에 이미지 업로드 중 오류가 발생했습니다. Key: %s", keyName), e);
+        }
+    }
 
+    public void deleteFullImage(Long diaryId, Integer version) {
+        String keyName = getFullImageKeyName(diaryId, version);
         try {
-            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+            s3Client.deleteObject(DeleteObjectRequest.builder()
                     .bucket(bucketName)
                     .key(keyName)
-                    .build()).asByteArray();
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to delete stale full image. Key: {}", keyName, e);
+        }
+    }
+
+    // 일기별 그림 4장과 현재 버전 합본 이미지를 DeleteObjects 한 번에 최대 1000개씩 삭제한다. 실패는 로그만 남긴다.
+    public void deleteDiaryImages(Map<Long, Integer> paintingImageVersions) {
+        List<ObjectIdentifier> objectIdentifiers = new ArrayList<>();
+        paintingImageVersions.forEach((diaryId, version) -> {
+            IntStream.rangeClosed(MIN_GRID_POSITION, MAX_GRID_POSITION)
+                    .forEach(gridPosition -> objectIdentifiers.add(toObjectIdentifier(getKeyName(diaryId, gridPosition))));
+            objectIdentifiers.add(toObjectIdentifier(getFullImageKeyName(diaryId, version)));
+        });
+
+        for (int from = 0; from < objectIdentifiers.size(); from += MAX_DELETE_OBJECTS_KEYS) {
+            deleteObjects(objectIdentifiers.subList(from, Math.min(from + MAX_DELETE_OBJECTS_KEYS, objectIdentifiers.size())));
+        }
+    }
+
+    private void deleteObjects(List<ObjectIdentifier> objectIdentifiers) {
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(objectIdentifiers)
+                            .quiet(true)
+                            .build())
+                    .build());
+            response.errors().forEach(error ->
+                    log.warn("Failed to delete diary image. Key: {}, Code: {}", error.key(), error.code()));
+        } catch (Exception e) {
+            log.warn("Failed to delete {} diary images", objectIdentifiers.size(), e);
+        }
+    }
+
+    private ObjectIdentifier toObjectIdentifier(String keyName) {
+        return ObjectIdentifier.builder()
+                .key(keyName)
+                .build();
+    }
+
+    private String getFullImageKeyName(Long diaryId, Integer version) {
+        return String.format("%d/full-v%d%s", diaryId, version, IMAGE_FORMAT);
+    }
+
+    public BufferedImage renderImagesTo2x2(Long diaryId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(downloadTimeoutInMillis);
+
+        // 네 이미지를 동시에 내려받으며 도착하는 즉시 디코딩한다.
+        List<CompletableFuture<BufferedImage>> imageFutures = IntStream.rangeClosed(MIN_GRID_POSITION, MAX_GRID_POSITION)
+                .mapToObj(gridPosition -> CompletableFuture.supplyAsync(
+                        () -> downloadImage(diaryId, gridPosition, deadline), diaryImageS3Executor))
+                .toList();
+
+        List<BufferedImage> images = new ArrayList<>();
+        for (CompletableFuture<BufferedImage> imageFuture : imageFutures) {
+            images.add(awaitImage(diaryId, imageFuture, deadline));
+        }
+        return mergeImagesTo2x2(images);
+    }
+
+    private BufferedImage awaitImage(Long diaryId, CompletableFuture<BufferedImage> imageFuture, long deadline) {
+        try {
+            return imageFuture.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업만 건너뛴다. 실행 중인 GET 요청은 apiCallTimeout 으로 끝난다.
+            imageFuture.cancel(true);
+            throw new S3Exception(String.format("S3에서 이미지 다운로드 시간이 초과되었습니다. DiaryId: %d", diaryId), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof S3Exception s3Exception) {
+                throw s3Exception;
+            }
+            throw new S3Exception(String.format("S3에서 이미지 다운로드 중 오류가 발생했습니다. DiaryId: %d", diaryId), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new S3Exception(String.format("S3에서 이미지 다운로드 중 오류가 발생했습니다. DiaryId: %d", diaryId), e);
+        }
+    }
+
+    // 본문 디코딩까지 SDK 호출 안에서 끝내야 apiCallTimeout 이 응답 본문을 읽는 시간까지 포함한다.
+    private BufferedImage downloadImage(Long diaryId, Integer gridPosition, long deadline) {
+        String keyName = getKeyName(diaryId, gridPosition);
+        GetObjectRequest getObjectRequest = withDeadline(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(keyName), deadline)
+                .build();
+
+        try {
+            BufferedImage image = s3Client.getObject(getObjectRequest, (response, imageStream) -> ImageIO.read(imageStream));
+            if (image == null) {
+                throw new S3Exception(String.format("S3 이미지를 디코딩할 수 없습니다. Key: %s", keyName));
+            }
+            return image;
         } catch (NoSuchKeyException e) {
             throw new S3ImageNotFoundException(String.format("S3에 이미지가 존재하지 않습니다. Key: %s", keyName));
+        } catch (S3Exception e) {
+            throw e;
         } catch (Exception e) {
             throw new S3Exception(String.format("S3에서 이미지 다운로드 중 오류가 발생했습니다. Key: %s", keyName), e);
         }
     }
 
-    public byte[] mergeImagesTo2x2(List<byte[]> images) throws IOException {
+    public BufferedImage mergeImagesTo2x2(List<BufferedImage> images) {
         if (images.size() < 4) {
             throw new IllegalArgumentException("4개의 이미지가 필요합니다.");
         }
 
-        BufferedImage[] bufferedImages = new BufferedImage[4];
-        for (int i = 0; i < 4; i++) {
-            ByteArrayInputStream bais = new ByteArrayInputStream(images.get(i));
-            bufferedImages[i] = ImageIO.read(bais);
-        }
-
-        int width = bufferedImages[0].getWidth();
-        int height = bufferedImages[0].getHeight();
+        int width = images.get(0).getWidth();
+        int height = images.get(0).getHeight();
 
         BufferedImage combinedImage = new BufferedImage(width * 2, height * 2, BufferedImage.TYPE_INT_ARGB);
 
         Graphics2D g = combinedImage.createGraphics();
-        g.drawImage(bufferedImages[0], 0, 0, null);           // 좌상단
-        g.drawImage(bufferedImages[1], width, 0, null);       // 우상단
-        g.drawImage(bufferedImages[2], 0, height, null);      // 좌하단
-        g.drawImage(bufferedImages[3], width, height, null);  // 우하단
+        g.drawImage(images.get(0), 0, 0, null);           // 좌상단
+        g.drawImage(images.get(1), width, 0, null);       // 우상단
+        g.drawImage(images.get(2), 0, height, null);      // 좌하단
+        g.drawImage(images.get(3), width, height, null);  // 우하단
         g.dispose();
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ImageIO.write(combinedImage, "png", baos);
-        return baos.toByteArray();
+        return combinedImage;
+    }
+
+    public void writeImage(BufferedImage image, OutputStream outputStream) throws IOException {
+        ImageIO.write(image, IMAGE_FORMAT_NAME, outputStream);
+    }
+
+    // S3 업로드 본문용. 응답으로 바로 내보낼 때는 writeImage 로 복사본 없이 인코딩한다.
+    public byte[] encodeImage(BufferedImage image) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            writeImage(image, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 인코딩 중 오류가 발생했습니다.", e);
+        }
+        return outputStream.toByteArray();
     }
 }
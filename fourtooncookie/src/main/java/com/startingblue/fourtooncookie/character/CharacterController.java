@@ -3,13 +3,16 @@ package com.startingblue.fourtooncookie.character;
 import com.startingblue.fourtooncookie.character.dto.request.CharacterSaveRequest;
 import com.startingblue.fourtooncookie.character.dto.request.CharacterUpdateRequest;
 import com.startingblue.fourtooncookie.character.dto.response.CharacterSavedResponse;
-import com.startingblue.fourtooncookie.character.dto.response.CharacterSavedResponses;
 import com.startingblue.fourtooncookie.character.service.CharacterService;
+import com.startingblue.fourtooncookie.global.cache.CatalogSnapshot;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RestController
@@ -26,11 +29,22 @@ public final class CharacterController {
                 .build();
     }
 
-    @GetMapping
-    public ResponseEntity<CharacterSavedResponses> readAllCharacters() {
-        CharacterSavedResponses responses = CharacterSavedResponses.of(characterService.readAllCharacters());
+    // 직렬화된 카탈로그 스냅샷을 그대로 내려주며, ETag 가 일치하면 본문 없이 304 를 반환한다.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> readAllCharacters(WebRequest webRequest) {
+        CatalogSnapshot snapshot = characterService.readCatalogSnapshot();
+        if (webRequest.checkNotModified(snapshot.eTag())) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.eTag())
+                    .build();
+        }
         return ResponseEntity
-                .ok(responses);
+                .ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(snapshot.eTag())
+                .body(snapshot.body());
     }
 
     @GetMapping("/{characterId}")
@@ -1,9 +1,9 @@
 package com.startingblue.fourtooncookie.character.domain;
 
 import com.startingblue.fourtooncookie.artwork.domain.Artwork;
+import com.startingblue.fourtooncookie.global.domain.DomainValidator;
 import com.startingblue.fourtooncookie.global.domain.PaymentType;
 import jakarta.persistence.*;
-import jakarta.validation.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -12,7 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.net.URL;
 import java.util.Objects;
-import java.util.Set;
 
 @Entity
 @Slf4j
@@ -67,13 +66,7 @@ public class Character {
     }
 
     private void validate() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-
-        Set<ConstraintViolation<Character>> violations = validator.validate(this);
-        if (!violations.isEmpty()) {
-            throw new ConstraintViolationException(violations);
-        }
+        DomainValidator.validate(this);
     }
 
     private static class CustomCharacterBuilder extends CharacterBuilder {
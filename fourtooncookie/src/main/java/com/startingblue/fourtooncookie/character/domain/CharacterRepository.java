@@ -2,11 +2,18 @@ package com.startingblue.fourtooncookie.character.domain;
 
 import com.startingblue.fourtooncookie.artwork.domain.Artwork;
 import com.startingblue.fourtooncookie.global.domain.PaymentType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CharacterRepository extends JpaRepository<Character, Long> {
+    @EntityGraph(attributePaths = "artwork")
+    @Query("select c from Character c")
+    List<Character> findAllWithArtwork();
     boolean existsByName(String name);
     boolean existsByArtwork(Artwork artwork);
     boolean existsByPaymentType(PaymentType paymentType);
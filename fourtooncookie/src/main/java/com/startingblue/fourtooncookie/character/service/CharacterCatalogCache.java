@@ -0,0 +1,19 @@
+package com.startingblue.fourtooncookie.character.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startingblue.fourtooncookie.global.cache.CatalogSnapshotCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CharacterCatalogCache extends CatalogSnapshotCache {
+
+    private static final String CACHE_NAME = "characterCatalog";
+
+    public CharacterCatalogCache(ObjectMapper objectMapper,
+                                 @Value("${character.catalog-cache.ttl-seconds:300}") Long timeToLiveInSeconds,
+                                 MeterRegistry meterRegistry) {
+        super(objectMapper, timeToLiveInSeconds, meterRegistry, CACHE_NAME);
+    }
+}
@@ -8,10 +8,13 @@ import com.startingblue.fourtooncookie.character.domain.CharacterVisionType;
 import com.startingblue.fourtooncookie.global.domain.PaymentType;
 import com.startingblue.fourtooncookie.character.dto.request.CharacterSaveRequest;
 import com.startingblue.fourtooncookie.character.dto.request.CharacterUpdateRequest;
+import com.startingblue.fourtooncookie.character.dto.response.CharacterSavedResponses;
 import com.startingblue.fourtooncookie.character.exception.CharacterDuplicateException;
 import com.startingblue.fourtooncookie.character.exception.CharacterNotFoundException;
+import com.startingblue.fourtooncookie.global.cache.CatalogSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -23,6 +26,7 @@ public class CharacterService {
 
     private final CharacterRepository characterRepository;
     private final ArtworkService artworkService;
+    private final CharacterCatalogCache characterCatalogCache;
 
     public void createCharacter(final CharacterSaveRequest request) {
         CharacterVisionType visionType = findByCharacterVisionType(request.characterVisionType());
@@ -38,11 +42,18 @@ public class CharacterService {
                 .selectionThumbnailUrl(request.selectionThumbnailUrl())
                 .basePrompt(request.basePrompt())
                 .build());
+        characterCatalogCache.invalidate();
     }
 
     @Transactional(readOnly = true)
     public List<Character> readAllCharacters() {
-        return characterRepository.findAll();
+        return characterRepository.findAllWithArtwork();
+    }
+
+    // 캐시 적중 시 트랜잭션과 커넥션 없이 직렬화된 응답을 그대로 반환한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogSnapshot readCatalogSnapshot() {
+        return characterCatalogCache.get(() -> CharacterSavedResponses.of(characterRepository.findAllWithArtwork()));
     }
 
     public void updateCharacter(final Long characterId, final CharacterUpdateRequest request) {
@@ -56,11 +67,13 @@ public class CharacterService {
                 request.selectionThumbnailUrl(),
                 request.basePrompt());
         characterRepository.save(character);
+        characterCatalogCache.invalidate();
     }
 
     public void deleteCharacter(final Long characterId) {
         Character foundCharacter = readById(characterId);
         characterRepository.delete(foundCharacter);
+        characterCatalogCache.invalidate();
     }
 
     @Transactional(readOnly = true)
@@ -69,6 +82,11 @@ public class CharacterService {
                         .orElseThrow(() -> new CharacterNotFoundException("Character with ID " + characterId + " not found"));
     }
 
+    // 존재 여부를 조회하지 않는 프록시. 존재하지 않는 ID 는 참조하는 쪽의 외래 키 제약으로 검증된다.
+    public Character readReferenceById(Long characterId) {
+        return characterRepository.getReferenceById(characterId);
+    }
+
     private CharacterVisionType findByCharacterVisionType(CharacterVisionType characterVisionType) {
         return CharacterVisionType.valueOf(characterVisionType.name());
     }
@@ -1,9 +1,14 @@
 package com.startingblue.fourtooncookie.diary;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startingblue.fourtooncookie.diary.domain.Diary;
 import com.startingblue.fourtooncookie.diary.dto.request.DiaryFavoriteRequest;
+import com.startingblue.fourtooncookie.diary.dto.request.DiaryFullImageDelivery;
 import com.startingblue.fourtooncookie.diary.dto.request.DiarySaveRequest;
+import com.startingblue.fourtooncookie.diary.dto.request.DiaryTimelineCursor;
 import com.startingblue.fourtooncookie.diary.dto.request.DiaryUpdateRequest;
 import com.startingblue.fourtooncookie.diary.dto.response.DiaryCreatedResponse;
+import com.startingblue.fourtooncookie.diary.dto.response.DiaryFullImageUrlResponse;
 import com.startingblue.fourtooncookie.diary.dto.response.DiarySavedResponse;
 import com.startingblue.fourtooncookie.diary.dto.response.DiarySavedResponses;
 import com.startingblue.fourtooncookie.diary.service.DiaryService;
@@ -11,13 +16,20 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.io.IOException;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.springframework.http.ResponseEntity.*;
@@ -29,6 +41,10 @@ import static org.springframework.http.ResponseEntity.*;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${diary.full-image.delivery:STREAM}")
+    private DiaryFullImageDelivery defaultFullImageDelivery;
 
     @PostMapping
     public ResponseEntity<DiaryCreatedResponse> createDiary(UUID memberId,
@@ -40,10 +56,14 @@ public class DiaryController {
     @GetMapping("/timeline")
     public ResponseEntity<DiarySavedResponses> readDiariesByMember (
             UUID memberId,
-            @RequestParam(defaultValue = "0") @Min(0) @Max(200) final int pageNumber,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) @Min(0) @Max(200) final Integer pageNumber,
             @RequestParam(defaultValue = "10") @Min(1) @Max(10) final int pageSize) {
 
-        DiarySavedResponses responses = DiarySavedResponses.of(diaryService.readDiariesByMemberId(memberId, pageNumber, pageSize));
+        // pageNumber 는 커서를 지원하지 않는 이전 클라이언트를 위한 오프셋 페이지네이션이다.
+        DiarySavedResponses responses = pageNumber != null && cursor == null
+                ? new DiarySavedResponses(diaryService.readDiariesByMemberId(memberId, pageNumber, pageSize))
+                : diaryService.readDiaryTimeline(memberId, cursor == null ? null : DiaryTimelineCursor.decode(cursor), pageSize);
 
         if (responses.diarySavedResponses().isEmpty()) {
             return noContent().build();
@@ -78,14 +98,69 @@ public class DiaryController {
         return noContent().build();
     }
 
+    // 본문 타입을 StreamingResponseBody 로 선언해 StreamingResponseBodyReturnValueHandler 가 처리하게 한다.
+    // 본문은 MVC 비동기 실행기(WebMvcAsyncConfig)에서 응답 스트림에 바로 쓴다.
     @GetMapping("/{diaryId}/image/full")
-    public ResponseEntity<byte[]> readDiaryByIdDownload(@PathVariable final Long diaryId) throws IOException {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.IMAGE_PNG);
+    public ResponseEntity<StreamingResponseBody> readDiaryByIdDownload(@PathVariable final Long diaryId,
+                                                                       @RequestParam(required = false) final DiaryFullImageDelivery delivery,
+                                                                       final WebRequest webRequest) {
+        Diary diary = diaryService.readById(diaryId);
+        DiaryFullImageDelivery resolvedDelivery = delivery == null ? defaultFullImageDelivery : delivery;
+        if (resolvedDelivery != DiaryFullImageDelivery.STREAM) {
+            Optional<URL> fullImageUrl = diaryService.readDiaryFullImageUrl(diary);
+            if (fullImageUrl.isPresent()) {
+                return toPreSignedUrlResponse(resolvedDelivery, fullImageUrl.get());
+            }
+        }
+        return streamDiaryFullImage(diary, webRequest);
+    }
+
+    private ResponseEntity<StreamingResponseBody> toPreSignedUrlResponse(DiaryFullImageDelivery delivery, URL fullImageUrl) {
+        if (delivery == DiaryFullImageDelivery.REDIRECT) {
+            return status(HttpStatus.FOUND)
+                    .location(URI.create(fullImageUrl.toString()))
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+        DiaryFullImageUrlResponse fullImageUrlResponse = new DiaryFullImageUrlResponse(fullImageUrl.toString());
+        return ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noStore())
+                .body(outputStream -> outputStream.write(objectMapper.writeValueAsBytes(fullImageUrlResponse)));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamDiaryFullImage(Diary diary, WebRequest webRequest) {
+        if (!diary.isFullImageCacheable()) {
+            BufferedImage fullImage = diaryService.renderDiaryFullImage(diary);
+            return ok()
+                    .contentType(MediaType.IMAGE_PNG)
+                    .body(outputStream -> diaryService.writeDiaryFullImage(fullImage, outputStream));
+        }
+
+        String eTag = toFullImageETag(diary);
+        if (webRequest.checkNotModified(eTag)) {
+            return status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .build();
+        }
+
+        return ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(toStreamingBody(diaryService.readDiaryFullImage(diary)));
+    }
+
+    private StreamingResponseBody toStreamingBody(InputStream fullImage) {
+        return outputStream -> {
+            try (fullImage) {
+                fullImage.transferTo(outputStream);
+            }
+        };
+    }
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(diaryService.readDiaryFullImage(diaryId));
+    private String toFullImageETag(Diary diary) {
+        return String.format("\"%d-v%d\"", diary.getId(), diary.getPaintingImageVersion());
     }
 
 }
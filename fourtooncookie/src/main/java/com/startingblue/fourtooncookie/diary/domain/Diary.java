@@ -2,9 +2,9 @@ package com.startingblue.fourtooncookie.diary.domain;
 
 import com.startingblue.fourtooncookie.character.domain.Character;
 import com.startingblue.fourtooncookie.global.domain.BaseEntity;
+import com.startingblue.fourtooncookie.global.domain.DomainValidator;
 import com.startingblue.fourtooncookie.global.converter.jpa.UrlListToStringConverter;
 import jakarta.persistence.*;
-import jakarta.validation.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -17,10 +17,18 @@ import java.util.*;
 @Entity
 @Getter
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = Diary.MEMBER_DIARY_DATE_UNIQUE_CONSTRAINT, columnNames = {"member_id", "diary_date"}))
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class Diary extends BaseEntity {
 
+    // 회원당 하루 한 편. InnoDB 보조 인덱스는 PK 를 포함하므로 (member_id, diary_date, diary_id) 순서의 타임라인 커서 조회와
+    // member_id 조건의 조회/삭제도 이 인덱스를 사용한다.
+    public static final String MEMBER_DIARY_DATE_UNIQUE_CONSTRAINT = "uk_diary_member_id_diary_date";
+
+    private static final int PAINTING_IMAGE_COUNT = 4;
+    private static final int ALL_PAINTING_IMAGES_PRESENT = (1 << PAINTING_IMAGE_COUNT) - 1;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "diary_id")
@@ -53,6 +61,15 @@ public final class Diary extends BaseEntity {
     @Builder.Default
     private DiaryStatus status = DiaryStatus.IN_PROGRESS;
 
+    // 그리드 위치별 그림 존재 여부 비트맵 (n번째 비트 = n번 위치)
+    private int paintingImagePresence;
+
+    // 그림이 새로 생성될 때마다 증가하며, 2x2 합본 이미지의 저장 키와 ETag 에 사용된다.
+    private int paintingImageVersion;
+
+    // 그림 생성을 요청할 때마다 증가한다. 생성이 겹치면 가장 최근 요청의 완료만 반영하는 데 쓴다.
+    private int paintingGeneration;
+
     public static DiaryBuilder builder() {
         return new CustomDiaryBuilder();
     }
@@ -78,18 +95,59 @@ public final class Diary extends BaseEntity {
         this.status = status;
     }
 
+    public void markAllPaintingImagesPresent() {
+        this.paintingImagePresence = ALL_PAINTING_IMAGES_PRESENT;
+    }
+
+    public void increasePaintingImageVersion() {
+        this.paintingImageVersion++;
+    }
+
+    public int startPaintingGeneration() {
+        return ++this.paintingGeneration;
+    }
+
+    public boolean isCurrentPaintingGeneration(int generation) {
+        return this.paintingGeneration == generation;
+    }
+
+    public boolean isFullImageCacheable() {
+        return status == DiaryStatus.COMPLETED;
+    }
+
+    public boolean isPaintingImagePresent(int gridPosition) {
+        return (paintingImagePresence & (1 << gridPosition)) != 0;
+    }
+
+    public List<Integer> getPresentPaintingImagePositions() {
+        return getPresentPaintingImagePositions(paintingImagePresence);
+    }
+
+    public boolean isPaintingImagePresenceUnknown() {
+        return isPaintingImagePresenceUnknown(paintingImagePresence, status);
+    }
+
+    static List<Integer> getPresentPaintingImagePositions(int paintingImagePresence) {
+        List<Integer> gridPositions = new ArrayList<>();
+        for (int gridPosition = 0; gridPosition < PAINTING_IMAGE_COUNT; gridPosition++) {
+            if ((paintingImagePresence & (1 << gridPosition)) != 0) {
+                gridPositions.add(gridPosition);
+            }
+        }
+        return gridPositions;
+    }
+
+    // 비트맵이 도입되기 전에 생성이 완료된 일기는 그림 존재 여부를 S3에서 확인해야 한다.
+    static boolean isPaintingImagePresenceUnknown(int paintingImagePresence, DiaryStatus status) {
+        return paintingImagePresence == 0 && status == DiaryStatus.COMPLETED;
+    }
+
     public boolean isOwner(UUID memberId) {
         return this.memberId.equals(memberId);
     }
 
     private void validate() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-
-        Set<ConstraintViolation<Diary>> violations = validator.validate(this);
-        if (!violations.isEmpty()) {
-            throw new ConstraintViolationException(violations);
-        }
+        DomainValidator.validate(this);
     }
 
     private static class CustomDiaryBuilder extends DiaryBuilder {
@@ -0,0 +1,67 @@
+package com.startingblue.fourtooncookie.diary.domain;
+
+import com.startingblue.fourtooncookie.global.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 일기 그림 생성 요청 아웃박스. 일기와 같은 트랜잭션에서 저장되고 디스패처가 꺼내 Lambda 를 호출한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_diary_image_generation_job_next_attempt_at", columnList = "next_attempt_at"))
+public class DiaryImageGenerationJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "diary_image_generation_job_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long diaryId;
+
+    // 작업을 만든 시점의 Diary.paintingGeneration. Lambda 요청과 콜백에 실려 오래된 생성의 완료를 걸러낸다.
+    private int generation;
+
+    private int attempts;
+
+    // EVENT 호출이 접수되어 콜백을 기다리는 중인지 여부. 이 상태에서 다시 가져가졌다면 콜백 기한이 지난 것이다.
+    private boolean awaitingCallback;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 일기를 만든 요청의 W3C traceparent. 디스패처가 이 값을 부모로 스팬을 이어 붙인다.
+    @Column(length = 55)
+    private String traceParent;
+
+    public DiaryImageGenerationJob(Long diaryId, int generation, LocalDateTime nextAttemptAt, String traceParent) {
+        this.diaryId = diaryId;
+        this.generation = generation;
+        this.nextAttemptAt = nextAttemptAt;
+        this.traceParent = traceParent;
+    }
+
+    // 처리 중 서버가 종료되어도 임대 시간이 지나면 다시 처리되도록 다음 시도 시각을 임대 만료 시각으로 미룬다.
+    // 콜백 기한이 지나 다시 가져간 경우는 새 시도가 아니므로 시도 횟수를 늘리지 않는다.
+    public void claim(LocalDateTime leaseExpiresAt) {
+        if (!awaitingCallback) {
+            this.attempts++;
+        }
+        this.nextAttemptAt = leaseExpiresAt;
+    }
+
+    // 콜백이 오면 작업이 삭제되고, 기한까지 오지 않으면 다시 가져가져 실패로 처리된다.
+    public void awaitCallbackUntil(LocalDateTime callbackDeadline) {
+        this.awaitingCallback = true;
+        this.nextAttemptAt = callbackDeadline;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.awaitingCallback = false;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,32 @@
+package com.startingblue.fourtooncookie.diary.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DiaryImageGenerationJobRepository extends JpaRepository<DiaryImageGenerationJob, Long> {
+
+    // lock.timeout -2 는 SKIP LOCKED 로, 여러 인스턴스가 같은 작업을 동시에 가져가지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select j from DiaryImageGenerationJob j where j.nextAttemptAt <= :now order by j.nextAttemptAt, j.id")
+    List<DiaryImageGenerationJob> findDueJobs(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from DiaryImageGenerationJob j where j.diaryId = :diaryId and j.generation = :generation")
+    int deleteAllByDiaryIdAndGeneration(@Param("diaryId") Long diaryId, @Param("generation") int generation);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from DiaryImageGenerationJob j where j.diaryId in (select d.id from Diary d where d.memberId = :memberId)")
+    int deleteAllByDiaryMemberId(@Param("memberId") UUID memberId);
+}
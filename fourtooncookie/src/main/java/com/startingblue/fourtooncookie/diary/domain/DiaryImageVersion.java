@@ -0,0 +1,5 @@
+package com.startingblue.fourtooncookie.diary.domain;
+
+// 일기 삭제 후 S3 이미지 키를 계산하기 위한 프로젝션
+public record DiaryImageVersion(Long diaryId, int paintingImageVersion) {
+}
@@ -1,14 +1,45 @@
 package com.startingblue.fourtooncookie.diary.domain;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
-    Page<Diary> findAllByMemberIdOrderByDiaryDateDesc(UUID memberId, Pageable pageable);
-    boolean existsByMemberIdAndDiaryDate(UUID memberId, LocalDate diaryDate);
-    void deleteByMemberId(UUID memberId);
+    @EntityGraph(attributePaths = "character")
+    Optional<Diary> findWithCharacterById(Long id);
+
+    @Query("select new com.startingblue.fourtooncookie.diary.domain.DiaryTimelineItem(" +
+            "d.id, d.content, d.isFavorite, d.diaryDate, d.character.id, d.status, d.paintingImagePresence) " +
+            "from Diary d where d.memberId = :memberId order by d.diaryDate desc, d.id desc")
+    Slice<DiaryTimelineItem> findTimelineByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
+
+    // (member_id, diary_date, diary_id) 인덱스를 커서 위치부터 역순으로 읽으므로 스크롤 깊이와 무관하게 비용이 일정하다.
+    @Query("select new com.startingblue.fourtooncookie.diary.domain.DiaryTimelineItem(" +
+            "d.id, d.content, d.isFavorite, d.diaryDate, d.character.id, d.status, d.paintingImagePresence) " +
+            "from Diary d where d.memberId = :memberId " +
+            "and (d.diaryDate < :diaryDate or (d.diaryDate = :diaryDate and d.id < :diaryId)) " +
+            "order by d.diaryDate desc, d.id desc")
+    Slice<DiaryTimelineItem> findTimelineByMemberIdAfter(@Param("memberId") UUID memberId,
+                                                         @Param("diaryDate") LocalDate diaryDate,
+                                                         @Param("diaryId") Long diaryId,
+                                                         Pageable pageable);
+    boolean existsByIdAndMemberId(Long id, UUID memberId);
+
+    @Query("select new com.startingblue.fourtooncookie.diary.domain.DiaryImageVersion(d.id, d.paintingImageVersion) " +
+            "from Diary d where d.memberId = :memberId")
+    List<DiaryImageVersion> findImageVersionsByMemberId(@Param("memberId") UUID memberId);
+
+    // 엔티티를 조회하지 않고 DELETE 한 번으로 삭제한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Diary d where d.memberId = :memberId")
+    int deleteAllByMemberIdInBulk(@Param("memberId") UUID memberId);
 }
@@ -0,0 +1,24 @@
+package com.startingblue.fourtooncookie.diary.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 타임라인 조회 전용 프로젝션. character 는 외래 키 컬럼만 읽으므로 프록시가 초기화되지 않는다.
+public record DiaryTimelineItem(
+        Long id,
+        String content,
+        boolean isFavorite,
+        LocalDate diaryDate,
+        Long characterId,
+        DiaryStatus status,
+        int paintingImagePresence
+) {
+
+    public List<Integer> getPresentPaintingImagePositions() {
+        return Diary.getPresentPaintingImagePositions(paintingImagePresence);
+    }
+
+    public boolean isPaintingImagePresenceUnknown() {
+        return Diary.isPaintingImagePresenceUnknown(paintingImagePresence, status);
+    }
+}
@@ -0,0 +1,7 @@
+package com.startingblue.fourtooncookie.diary.dto.request;
+
+public enum DiaryFullImageDelivery {
+    STREAM,   // 서버가 합본 이미지를 직접 내려준다
+    REDIRECT, // 프리사인 URL 로 302 리다이렉트
+    URL       // 프리사인 URL 을 JSON 으로 응답
+}
@@ -0,0 +1,37 @@
+package com.startingblue.fourtooncookie.diary.dto.request;
+
+import com.startingblue.fourtooncookie.diary.domain.DiaryTimelineItem;
+import com.startingblue.fourtooncookie.diary.exception.DiaryTimelineCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 타임라인의 마지막 일기 위치 (diaryDate, diaryId). 클라이언트에는 내부 구조를 알 수 없는 토큰으로 전달한다.
+public record DiaryTimelineCursor(LocalDate diaryDate, Long diaryId) {
+
+    private static final String DELIMITER = ":";
+
+    public static DiaryTimelineCursor of(DiaryTimelineItem diary) {
+        return new DiaryTimelineCursor(diary.diaryDate(), diary.id());
+    }
+
+    public static DiaryTimelineCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, 2);
+            if (parts.length != 2) {
+                throw new DiaryTimelineCursorException("Invalid timeline cursor: " + token);
+            }
+            return new DiaryTimelineCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DiaryTimelineCursorException("Invalid timeline cursor: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = diaryDate + DELIMITER + diaryId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
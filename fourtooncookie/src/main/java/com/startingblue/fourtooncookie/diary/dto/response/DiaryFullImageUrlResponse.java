@@ -0,0 +1,4 @@
+package com.startingblue.fourtooncookie.diary.dto.response;
+
+public record DiaryFullImageUrlResponse(String fullImageUrl) {
+}
@@ -2,8 +2,10 @@ package com.startingblue.fourtooncookie.diary.dto.response;
 
 import com.startingblue.fourtooncookie.diary.domain.Diary;
 import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.diary.domain.DiaryTimelineItem;
 import lombok.Builder;
 
+import java.net.URL;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -31,4 +33,19 @@ public record DiarySavedResponse(
                 .diaryStatus(diary.getStatus())
                 .build();
     }
+
+    public static DiarySavedResponse of(DiaryTimelineItem diary, List<URL> paintingImageUrls) {
+        return DiarySavedResponse.builder()
+                .diaryId(diary.id())
+                .content(diary.content())
+                .isFavorite(diary.isFavorite())
+                .diaryDate(diary.diaryDate())
+                .paintingImageUrls(paintingImageUrls
+                        .stream()
+                        .map(String::valueOf)
+                        .toList())
+                .characterId(diary.characterId())
+                .diaryStatus(diary.status())
+                .build();
+    }
 }
\ No newline at end of file
@@ -4,7 +4,12 @@ import com.startingblue.fourtooncookie.diary.domain.Diary;
 
 import java.util.List;
 
-public record DiarySavedResponses(List<DiarySavedResponse> diarySavedResponses) {
+// nextCursor 는 다음 타임라인 페이지가 없으면 null 이다.
+public record DiarySavedResponses(List<DiarySavedResponse> diarySavedResponses, String nextCursor) {
+
+    public DiarySavedResponses(List<DiarySavedResponse> diarySavedResponses) {
+        this(diarySavedResponses, null);
+    }
 
     public static DiarySavedResponses of(List<Diary> diaries) {
         return new DiarySavedResponses(diaries.stream()
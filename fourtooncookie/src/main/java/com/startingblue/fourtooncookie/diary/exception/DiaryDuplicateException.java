@@ -4,4 +4,8 @@ public class DiaryDuplicateException extends RuntimeException{
     public DiaryDuplicateException(String message) {
         super(message);
     }
+
+    public DiaryDuplicateException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
\ No newline at end of file
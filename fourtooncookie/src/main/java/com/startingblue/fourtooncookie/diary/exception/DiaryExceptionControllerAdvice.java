@@ -40,6 +40,13 @@ public class DiaryExceptionControllerAdvice {
         return "Diary duplicate";
     }
 
+    @ExceptionHandler(DiaryTimelineCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleDiaryTimelineCursorException(DiaryTimelineCursorException e) {
+        log.error(e.getMessage(), e);
+        return "Invalid timeline cursor";
+    }
+
     @ExceptionHandler(DiaryLambdaInvocationException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public String handleDiaryLambdaInvocationException(DiaryLambdaInvocationException e) {
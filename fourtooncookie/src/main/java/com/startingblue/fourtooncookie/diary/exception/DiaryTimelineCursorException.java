@@ -0,0 +1,11 @@
+package com.startingblue.fourtooncookie.diary.exception;
+
+public class DiaryTimelineCursorException extends RuntimeException {
+    public DiaryTimelineCursorException(String message) {
+        super(message);
+    }
+
+    public DiaryTimelineCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.startingblue.fourtooncookie.aws.s3.service.DiaryImageS3Service;
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class DiaryImageCleanupEventListener {
+
+    private final DiaryImageS3Service diaryImageS3Service;
+
+    // 일기 삭제가 커밋된 뒤에만 S3 이미지를 지운다. 롤백되면 이미지는 그대로 남는다.
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void deleteDiaryImages(DiaryImagesDeletedEvent event) {
+        Map<Long, Integer> paintingImageVersions = new LinkedHashMap<>();
+        for (DiaryImageVersion imageVersion : event.imageVersions()) {
+            paintingImageVersions.put(imageVersion.diaryId(), imageVersion.paintingImageVersion());
+        }
+        diaryImageS3Service.deleteDiaryImages(paintingImageVersions);
+    }
+}
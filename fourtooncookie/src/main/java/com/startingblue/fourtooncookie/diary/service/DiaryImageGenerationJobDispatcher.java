@@ -0,0 +1,102 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload.DiaryImageGenerationLambdaInvoker;
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageGenerationJob;
+import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.diary.exception.DiaryNotFoundException;
+import com.startingblue.fourtooncookie.global.monitoring.TraceContextPropagation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+@Component
+@Slf4j
+public class DiaryImageGenerationJobDispatcher {
+
+    private static final String SPAN_NAME = "diary.image.generation";
+
+    private final DiaryImageGenerationJobService diaryImageGenerationJobService;
+    private final DiaryImageGenerationLambdaInvoker diaryImageGenerationLambdaInvoker;
+    private final Executor diaryImageGenerationExecutor;
+    private final TraceContextPropagation traceContextPropagation;
+    private final Semaphore permits;
+    private final int batchSize;
+
+    public DiaryImageGenerationJobDispatcher(DiaryImageGenerationJobService diaryImageGenerationJobService,
+                                             DiaryImageGenerationLambdaInvoker diaryImageGenerationLambdaInvoker,
+                                             @Qualifier("diaryImageGenerationExecutor") Executor diaryImageGenerationExecutor,
+                                             TraceContextPropagation traceContextPropagation,
+                                             @Value("${diary.image-generation.outbox.concurrency:20}") int concurrency,
+                                             @Value("${diary.image-generation.outbox.batch-size:20}") int batchSize) {
+        this.diaryImageGenerationJobService = diaryImageGenerationJobService;
+        this.diaryImageGenerationLambdaInvoker = diaryImageGenerationLambdaInvoker;
+        this.diaryImageGenerationExecutor = diaryImageGenerationExecutor;
+        this.traceContextPropagation = traceContextPropagation;
+        this.permits = new Semaphore(concurrency);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${diary.image-generation.outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        int limit = Math.min(batchSize, permits.availablePermits());
+        if (limit == 0) {
+            return;
+        }
+
+        List<DiaryImageGenerationJob> jobs = diaryImageGenerationJobService.claimDueJobs(limit);
+        for (DiaryImageGenerationJob job : jobs) {
+            permits.acquireUninterruptibly();
+            try {
+                // 작업은 일기를 만든 요청의 추적에 이어 붙여, 요청부터 Lambda, S3 호출까지 하나의 trace 로 본다.
+                diaryImageGenerationExecutor.execute(() -> traceContextPropagation.runInSpan(SPAN_NAME, job.getTraceParent(), () -> process(job)));
+            } catch (RejectedExecutionException e) {
+                // 임대 시간이 지나면 다시 처리된다.
+                log.warn("Diary image generation job rejected. jobId: {}", job.getId());
+                permits.release();
+            }
+        }
+    }
+
+    private void process(DiaryImageGenerationJob job) {
+        try {
+            if (job.isAwaitingCallback()) {
+                // Lambda 가 실패했거나 콜백이 유실되었다. 일반 실패와 같이 재시도하고, 재시도를 모두 소진하면 FAILED 로 끝낸다.
+                log.warn("Diary image generation callback timed out. diaryId: {}, generation: {}", job.getDiaryId(), job.getGeneration());
+                handleFailure(job);
+                return;
+            }
+
+            DiaryStatus status = diaryImageGenerationLambdaInvoker.invokeDiaryImageGenerationLambda(job.getDiaryId(), job.getGeneration());
+            if (status == DiaryStatus.IN_PROGRESS) {
+                diaryImageGenerationJobService.awaitCallback(job.getId());
+                return;
+            }
+            diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(job.getDiaryId(), job.getGeneration(), status);
+        } catch (DiaryNotFoundException e) {
+            log.info("Diary already deleted. Dropping image generation job. diaryId: {}", job.getDiaryId());
+            diaryImageGenerationJobService.complete(job.getId());
+        } catch (Exception e) {
+            log.error("Diary image generation failed. diaryId: {}, attempts: {}", job.getDiaryId(), job.getAttempts(), e);
+            handleFailure(job);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void handleFailure(DiaryImageGenerationJob job) {
+        try {
+            if (!diaryImageGenerationJobService.retryOrDiscard(job.getId())) {
+                diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(job.getDiaryId(), job.getGeneration(), DiaryStatus.FAILED);
+            }
+        } catch (Exception e) {
+            log.error("Failed to reschedule diary image generation job. jobId: {}", job.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageGenerationJob;
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageGenerationJobRepository;
+import com.startingblue.fourtooncookie.global.monitoring.TraceContextPropagation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DiaryImageGenerationJobService {
+
+    private final DiaryImageGenerationJobRepository diaryImageGenerationJobRepository;
+    private final TraceContextPropagation traceContextPropagation;
+
+    @Value("${diary.image-generation.outbox.lease-seconds:300}")
+    private Long leaseSeconds;
+
+    @Value("${diary.image-generation.outbox.callback-timeout-seconds:600}")
+    private Long callbackTimeoutSeconds;
+
+    @Value("${diary.image-generation.outbox.max-attempts:5}")
+    private Integer maxAttempts;
+
+    @Value("${diary.image-generation.outbox.backoff-base-seconds:5}")
+    private Long backoffBaseSeconds;
+
+    @Value("${diary.image-generation.outbox.backoff-max-seconds:300}")
+    private Long backoffMaxSeconds;
+
+    public void enqueue(final Long diaryId, final int generation) {
+        diaryImageGenerationJobRepository.save(new DiaryImageGenerationJob(diaryId, generation, LocalDateTime.now(), traceContextPropagation.currentTraceParent()));
+    }
+
+    public void deleteByDiaryMemberId(final UUID memberId) {
+        diaryImageGenerationJobRepository.deleteAllByDiaryMemberId(memberId);
+    }
+
+    public List<DiaryImageGenerationJob> claimDueJobs(final int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<DiaryImageGenerationJob> dueJobs = diaryImageGenerationJobRepository.findDueJobs(now, PageRequest.of(0, limit));
+        dueJobs.forEach(job -> job.claim(now.plusSeconds(leaseSeconds)));
+        return dueJobs;
+    }
+
+    public void complete(final Long jobId) {
+        diaryImageGenerationJobRepository.deleteById(jobId);
+    }
+
+    // EVENT 호출이 접수된 작업은 지우지 않고 콜백 기한까지 남겨 둔다.
+    public void awaitCallback(final Long jobId) {
+        diaryImageGenerationJobRepository.findById(jobId)
+                .ifPresent(job -> job.awaitCallbackUntil(LocalDateTime.now().plusSeconds(callbackTimeoutSeconds)));
+    }
+
+    public void completeByDiaryIdAndGeneration(final Long diaryId, final int generation) {
+        diaryImageGenerationJobRepository.deleteAllByDiaryIdAndGeneration(diaryId, generation);
+    }
+
+    // 재시도 횟수를 모두 소진했으면 작업을 버리고 false 를 반환한다.
+    public boolean retryOrDiscard(final Long jobId) {
+        DiaryImageGenerationJob job = diaryImageGenerationJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return false;
+        }
+        if (job.getAttempts() >= maxAttempts) {
+            diaryImageGenerationJobRepository.delete(job);
+            return false;
+        }
+        job.retryAt(LocalDateTime.now().plusSeconds(calculateBackoffSeconds(job.getAttempts())));
+        return true;
+    }
+
+    private long calculateBackoffSeconds(int attempts) {
+        long backoffSeconds = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        return Math.min(backoffSeconds, backoffMaxSeconds);
+    }
+}
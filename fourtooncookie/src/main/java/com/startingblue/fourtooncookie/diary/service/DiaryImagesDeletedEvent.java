@@ -0,0 +1,8 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageVersion;
+
+import java.util.List;
+
+public record DiaryImagesDeletedEvent(List<DiaryImageVersion> imageVersions) {
+}
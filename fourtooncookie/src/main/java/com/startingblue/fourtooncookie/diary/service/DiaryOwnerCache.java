@@ -0,0 +1,45 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.startingblue.fourtooncookie.global.transaction.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+public class DiaryOwnerCache {
+
+    private static final String CACHE_NAME = "diaryOwner";
+
+    // 일기의 작성자는 바뀌지 않으므로 확인된 소유 관계만 diaryId 기준으로 저장한다. 소유자가 아닌 요청 결과는 캐시하지 않는다.
+    private final Cache<Long, UUID> cache;
+
+    public DiaryOwnerCache(@Value("${diary.owner-cache.ttl-seconds:600}") Long timeToLiveInSeconds,
+                           @Value("${diary.owner-cache.maximum-size:100000}") Long maximumSize,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(timeToLiveInSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isOwner(Long diaryId, UUID memberId) {
+        return memberId.equals(cache.getIfPresent(diaryId));
+    }
+
+    public void put(Long diaryId, UUID memberId) {
+        cache.put(diaryId, memberId);
+    }
+
+    // 동시 소유자 확인이 삭제 중인 일기의 소유 관계를 다시 캐시하지 않도록 커밋 후에 지운다.
+    public void evict(Long diaryId) {
+        AfterCommit.run(() -> cache.invalidate(diaryId));
+    }
+}
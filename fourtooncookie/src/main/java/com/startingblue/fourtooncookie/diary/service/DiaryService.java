@@ -1,33 +1,42 @@
 package com.startingblue.fourtooncookie.diary.service;
 
-import com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload.DiaryImageGenerationLambdaInvoker;
+import com.startingblue.fourtooncookie.aws.s3.exception.S3PreSignUrlException;
+import com.startingblue.fourtooncookie.aws.s3.exception.S3UploadException;
 import com.startingblue.fourtooncookie.aws.s3.service.DiaryImageS3Service;
 import com.startingblue.fourtooncookie.character.domain.Character;
+import com.startingblue.fourtooncookie.character.exception.CharacterNotFoundException;
 import com.startingblue.fourtooncookie.character.service.CharacterService;
 import com.startingblue.fourtooncookie.diary.domain.Diary;
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageVersion;
 import com.startingblue.fourtooncookie.diary.domain.DiaryRepository;
 import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.diary.domain.DiaryTimelineItem;
 import com.startingblue.fourtooncookie.diary.dto.request.DiarySaveRequest;
+import com.startingblue.fourtooncookie.diary.dto.request.DiaryTimelineCursor;
 import com.startingblue.fourtooncookie.diary.dto.request.DiaryUpdateRequest;
+import com.startingblue.fourtooncookie.diary.dto.response.DiarySavedResponse;
+import com.startingblue.fourtooncookie.diary.dto.response.DiarySavedResponses;
 import com.startingblue.fourtooncookie.diary.exception.DiaryDuplicateException;
 import com.startingblue.fourtooncookie.diary.exception.DiaryNotFoundException;
-import com.startingblue.fourtooncookie.member.domain.Member;
-import com.startingblue.fourtooncookie.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
-import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -35,27 +44,30 @@ import java.util.stream.Stream;
 @Transactional
 public class DiaryService {
 
-    private static final int MIN_PAINTING_IMAGE_POSITION = 0;
-    private static final int MAX_PAINTING_IMAGE_POSITION = 3;
+    private static final Set<String> FOREIGN_KEY_VIOLATION_SQL_STATES = Set.of("23503", "23506");
+    private static final int MYSQL_FOREIGN_KEY_VIOLATION_ERROR_CODE = 1452;
 
     private final DiaryRepository diaryRepository;
-    private final MemberService memberService;
     private final CharacterService characterService;
     private final DiaryImageS3Service diaryImageS3Service;
-    private final DiaryImageGenerationLambdaInvoker diaryImageGenerationLambdaInvoker;
+    private final DiaryImageGenerationJobService diaryImageGenerationJobService;
+    private final DiaryOwnerCache diaryOwnerCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DiaryStatusMetrics diaryStatusMetrics;
 
+    // 회원은 인증 필터에서, 캐릭터와 날짜 중복은 INSERT 시 제약 조건으로 검증하므로 쓰기 경로는 INSERT 한 번이다.
     public Long createDiary(final DiarySaveRequest request, final UUID memberId) {
-        Member member = memberService.readById(memberId);
-        Character character = characterService.readById(request.characterId());
-        verifyUniqueDiary(memberId, request.diaryDate());
+        Character character = characterService.readReferenceById(request.characterId());
 
-        Diary diary = buildDiary(request, member, character);
-        diaryRepository.save(diary);
-        diaryImageGenerationLambdaInvoker.invokeDiaryImageGenerationLambda(diary, character);
+        Diary diary = buildDiary(request, memberId, character);
+        int generation = diary.startPaintingGeneration();
+        saveUniqueDiary(diary);
+        diaryStatusMetrics.recordTransition(null, diary.getStatus());
+        diaryImageGenerationJobService.enqueue(diary.getId(), generation);
         return diary.getId();
     }
 
-    private Diary buildDiary(DiarySaveRequest request, Member member, Character character) {
+    private Diary buildDiary(DiarySaveRequest request, UUID memberId, Character character) {
         return Diary.builder()
                 .content(request.content())
                 .isFavorite(false)
@@ -63,46 +75,114 @@ public class DiaryService {
                 .paintingImageUrls(Collections.emptyList())
                 .status(DiaryStatus.IN_PROGRESS)
                 .character(character)
-                .memberId(member.getId())
+                .memberId(memberId)
                 .build();
     }
 
     @Transactional(readOnly = true)
     public Diary readDiaryById(final Long diaryId) {
-        Optional<Diary> foundDiary = diaryRepository.findById(diaryId);
-        List<URL> preSignedUrls = generatePreSignedUrls(foundDiary.get().getId());
-
-        foundDiary.get().updatePaintingImageUrls(preSignedUrls);
-        return foundDiary.get();
+        Diary foundDiary = readById(diaryId);
+        updatePreSignedUrls(List.of(foundDiary));
+        return foundDiary;
     }
 
     @Transactional(readOnly = true)
-    public List<Diary> readDiariesByMemberId(final UUID memberId, final int pageNumber, final int pageSize) {
-        Member foundMember = memberService.readById(memberId);
-        Page<Diary> diaries = diaryRepository.findAllByMemberIdOrderByDiaryDateDesc(
-                foundMember.getId(),
-                PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "diaryDate"))
+    public List<DiarySavedResponse> readDiariesByMemberId(final UUID memberId, final int pageNumber, final int pageSize) {
+        Slice<DiaryTimelineItem> diaries = diaryRepository.findTimelineByMemberId(
+                memberId,
+                PageRequest.of(pageNumber, pageSize)
         );
-
-        return diaries.getContent().stream().map(savedDiary -> {
-            List<URL> preSignedUrls = generatePreSignedUrls(savedDiary.getId());
-            savedDiary.updatePaintingImageUrls(preSignedUrls);
-            return savedDiary;
-        }).collect(Collectors.toList());
+        return toSavedResponses(diaries.getContent());
     }
 
     @Transactional(readOnly = true)
-    public byte[] readDiaryFullImage(final Long diaryId) throws IOException {
-        List<byte[]> images = diaryImageS3Service.downloadImages(diaryId);
-        return diaryImageS3Service.mergeImagesTo2x2(images);
+    public DiarySavedResponses readDiaryTimeline(final UUID memberId, final DiaryTimelineCursor cursor, final int pageSize) {
+        Pageable pageable = PageRequest.of(0, pageSize);
+        Slice<DiaryTimelineItem> diaries = cursor == null
+                ? diaryRepository.findTimelineByMemberId(memberId, pageable)
+                : diaryRepository.findTimelineByMemberIdAfter(memberId, cursor.diaryDate(), cursor.diaryId(), pageable);
+
+        String nextCursor = diaries.hasNext()
+                ? DiaryTimelineCursor.of(diaries.getContent().get(diaries.getNumberOfElements() - 1)).encode()
+                : null;
+        return new DiarySavedResponses(toSavedResponses(diaries.getContent()), nextCursor);
+    }
+
+    private List<DiarySavedResponse> toSavedResponses(List<DiaryTimelineItem> diaries) {
+        List<Long> uncheckedDiaryIds = diaries.stream()
+                .filter(DiaryTimelineItem::isPaintingImagePresenceUnknown)
+                .map(DiaryTimelineItem::id)
+                .toList();
+        Map<Long, List<URL>> checkedPreSignedUrls = generatePreSignedImageUrls(uncheckedDiaryIds);
+
+        return diaries.stream()
+                .map(diary -> DiarySavedResponse.of(diary, diary.isPaintingImagePresenceUnknown()
+                        ? checkedPreSignedUrls.getOrDefault(diary.id(), List.of())
+                        : presignPaintingImageUrls(diary.id(), diary.getPresentPaintingImagePositions())))
+                .toList();
+    }
+
+    // 합성 이미지 경로는 S3 호출과 렌더링만 하므로 트랜잭션과 커넥션을 잡지 않는다.
+    // 저장하지 않는 다이어리는 캔버스만 렌더링해 두고, PNG 인코딩은 writeDiaryFullImage 로 응답 스트림에 바로 쓴다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BufferedImage renderDiaryFullImage(final Diary diary) {
+        return diaryImageS3Service.renderImagesTo2x2(diary.getId());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeDiaryFullImage(final BufferedImage fullImage, final OutputStream outputStream) throws IOException {
+        diaryImageS3Service.writeImage(fullImage, outputStream);
+    }
+
+    // 저장 대상 다이어리는 S3 의 합성 이미지를 열고, 없으면 렌더링해 업로드한다. 업로드 본문이 필요한 이 경로만 byte[] 로 인코딩한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InputStream readDiaryFullImage(final Diary diary) {
+        return diaryImageS3Service.openFullImage(diary.getId(), diary.getPaintingImageVersion())
+                .orElseGet(() -> new ByteArrayInputStream(storeDiaryFullImage(diary)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<URL> readDiaryFullImageUrl(final Diary diary) {
+        if (!diary.isFullImageCacheable()) {
+            return Optional.empty();
+        }
+        return diaryImageS3Service.presignFullImageUrl(diary.getId(), diary.getPaintingImageVersion());
     }
 
-    private List<URL> generatePreSignedUrls(Long diaryId) {
-        return IntStream.rangeClosed(MIN_PAINTING_IMAGE_POSITION, MAX_PAINTING_IMAGE_POSITION)
-                .mapToObj(imageGridPosition -> {
+    private byte[] storeDiaryFullImage(Diary diary) {
+        byte[] fullImage = diaryImageS3Service.encodeImage(diaryImageS3Service.renderImagesTo2x2(diary.getId()));
+        try {
+            diaryImageS3Service.uploadFullImage(diary.getId(), diary.getPaintingImageVersion(), fullImage);
+        } catch (S3UploadException e) {
+            log.warn("Failed to store full image for diaryId: {}", diary.getId(), e);
+        }
+        return fullImage;
+    }
+
+    private void updatePreSignedUrls(List<Diary> diaries) {
+        List<Long> uncheckedDiaryIds = diaries.stream()
+                .filter(Diary::isPaintingImagePresenceUnknown)
+                .map(Diary::getId)
+                .toList();
+        Map<Long, List<URL>> checkedPreSignedUrls = generatePreSignedImageUrls(uncheckedDiaryIds);
+
+        diaries.forEach(diary -> diary.updatePaintingImageUrls(diary.isPaintingImagePresenceUnknown()
+                ? checkedPreSignedUrls.getOrDefault(diary.getId(), List.of())
+                : presignPaintingImageUrls(diary.getId(), diary.getPresentPaintingImagePositions())));
+    }
+
+    private Map<Long, List<URL>> generatePreSignedImageUrls(List<Long> uncheckedDiaryIds) {
+        return uncheckedDiaryIds.isEmpty()
+                ? Map.of()
+                : diaryImageS3Service.generatePreSignedImageUrls(uncheckedDiaryIds);
+    }
+
+    private List<URL> presignPaintingImageUrls(Long diaryId, List<Integer> gridPositions) {
+        return gridPositions.stream()
+                .map(gridPosition -> {
                     try {
-                        return diaryImageS3Service.generatePreSignedImageUrl(diaryId, imageGridPosition);
-                    } catch (Exception e) {
+                        return diaryImageS3Service.presignImageUrl(diaryId, gridPosition);
+                    } catch (S3PreSignUrlException e) {
                         log.error("Failed to generate pre-signed image URL for diaryId: {}", diaryId, e);
                         return null;
                     }
@@ -119,13 +199,20 @@ public class DiaryService {
     public void updateDiary(Long diaryId, DiaryUpdateRequest request) {
         Diary existedDiary = readById(diaryId);
         Character character = characterService.readById(request.characterId());
+        DiaryStatus previousStatus = existedDiary.getStatus();
         existedDiary.update(request.content(), character, DiaryStatus.IN_PROGRESS);
-        diaryImageGenerationLambdaInvoker.invokeDiaryImageGenerationLambda(existedDiary, character);
+        diaryStatusMetrics.recordTransition(previousStatus, DiaryStatus.IN_PROGRESS);
+        diaryImageS3Service.evictPreSignedImageUrls(diaryId);
+        diaryImageGenerationJobService.enqueue(diaryId, existedDiary.startPaintingGeneration());
     }
 
     public void deleteDiary(Long diaryId) {
         Diary foundDiary = readById(diaryId);
         diaryRepository.delete(foundDiary);
+        diaryOwnerCache.evict(diaryId);
+        diaryImageS3Service.evictPreSignedImageUrls(diaryId);
+        eventPublisher.publishEvent(new DiaryImagesDeletedEvent(
+                List.of(new DiaryImageVersion(diaryId, foundDiary.getPaintingImageVersion()))));
     }
 
     @Transactional(readOnly = true)
@@ -134,21 +221,55 @@ public class DiaryService {
                 .orElseThrow(DiaryNotFoundException::new);
     }
 
-    @Transactional(readOnly = true)
-    public void verifyUniqueDiary(UUID memberId, LocalDate diaryDate) {
-        if (diaryRepository.existsByMemberIdAndDiaryDate(memberId, diaryDate)) {
-            throw new DiaryDuplicateException("이미 " + diaryDate + "에 일기를 작성하셨습니다.");
+    // 사전 조회 없이 INSERT 하고, (member_id, diary_date) 유니크 제약 위반을 중복 일기로 변환한다.
+    private void saveUniqueDiary(Diary diary) {
+        try {
+            diaryRepository.saveAndFlush(diary);
+        } catch (DataIntegrityViolationException e) {
+            if (isMemberDiaryDateViolation(e)) {
+                throw new DiaryDuplicateException("이미 " + diary.getDiaryDate() + "에 일기를 작성하셨습니다.", e);
+            }
+            if (isCharacterForeignKeyViolation(e)) {
+                throw new CharacterNotFoundException("Character with ID " + diary.getCharacter().getId() + " not found");
+            }
+            throw e;
         }
     }
 
+    private boolean isMemberDiaryDateViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(Diary.MEMBER_DIARY_DATE_UNIQUE_CONSTRAINT);
+    }
+
+    // diary 테이블의 외래 키는 character 하나뿐이다. (SQLState 23503/H2 23506, MySQL 에러 코드 1452)
+    private boolean isCharacterForeignKeyViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && (violation.getSQLState() != null && FOREIGN_KEY_VIOLATION_SQL_STATES.contains(violation.getSQLState())
+                || violation.getErrorCode() == MYSQL_FOREIGN_KEY_VIOLATION_ERROR_CODE);
+    }
+
     @Transactional(readOnly = true)
     public boolean verifyDiaryOwner(UUID memberId, Long diaryId) {
-        Diary foundDiary = readById(diaryId);
-        return foundDiary.isOwner(memberId);
+        if (diaryOwnerCache.isOwner(diaryId, memberId)) {
+            return true;
+        }
+
+        boolean isOwner = diaryRepository.existsByIdAndMemberId(diaryId, memberId);
+        if (isOwner) {
+            diaryOwnerCache.put(diaryId, memberId);
+        }
+        return isOwner;
     }
 
+    // 일기 수와 관계없이 SELECT 한 번, DELETE 두 번으로 끝나며 S3 이미지는 커밋 후 비동기로 정리된다.
     public void deleteDiaryByMemberId(UUID memberId) {
-        diaryRepository.deleteByMemberId(memberId);
+        List<DiaryImageVersion> imageVersions = diaryRepository.findImageVersionsByMemberId(memberId);
+        diaryImageGenerationJobService.deleteByDiaryMemberId(memberId);
+        diaryRepository.deleteAllByMemberIdInBulk(memberId);
+
+        imageVersions.forEach(imageVersion -> diaryImageS3Service.evictPreSignedImageUrls(imageVersion.diaryId()));
+        eventPublisher.publishEvent(new DiaryImagesDeletedEvent(imageVersions));
     }
 
 }
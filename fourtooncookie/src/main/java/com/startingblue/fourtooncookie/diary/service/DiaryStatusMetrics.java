@@ -0,0 +1,27 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.global.transaction.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 일기 상태 전이 횟수를 diary.status.transitions 카운터(from, to 태그)로 남긴다. 새 일기의 from 은 NONE 이다.
+@Component
+@RequiredArgsConstructor
+public class DiaryStatusMetrics {
+
+    private static final String METRIC_NAME = "diary.status.transitions";
+    private static final String NO_STATUS = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    // 롤백된 전이는 세지 않도록 트랜잭션 안에서는 커밋 후에 기록한다.
+    public void recordTransition(DiaryStatus from, DiaryStatus to) {
+        Counter counter = meterRegistry.counter(METRIC_NAME,
+                "from", from == null ? NO_STATUS : from.name(),
+                "to", to.name());
+        AfterCommit.run(counter::increment);
+    }
+}
@@ -0,0 +1,32 @@
+package com.startingblue.fourtooncookie.global.authentication;
+
+import com.startingblue.fourtooncookie.member.domain.MemberAuthProjection;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.UUID;
+
+// 인증 필터에서 한 번 만들어 요청 속성으로 공유하는 인증 주체
+public record AuthenticatedMember(UUID id, boolean signedUp, boolean admin) {
+
+    public static final String ATTRIBUTE_NAME = AuthenticatedMember.class.getName();
+
+    public static AuthenticatedMember of(UUID id, MemberAuthProjection memberAuthProjection) {
+        return new AuthenticatedMember(id, memberAuthProjection.signedUp(), memberAuthProjection.admin());
+    }
+
+    // 회원가입 요청은 아직 회원 정보가 없으므로 ID 만 가진다.
+    public static AuthenticatedMember signingUp(UUID id) {
+        return new AuthenticatedMember(id, false, false);
+    }
+
+    public static AuthenticatedMember from(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE_NAME) instanceof AuthenticatedMember authenticatedMember) {
+            return authenticatedMember;
+        }
+        return null;
+    }
+
+    public void bindTo(HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE_NAME, this);
+    }
+}
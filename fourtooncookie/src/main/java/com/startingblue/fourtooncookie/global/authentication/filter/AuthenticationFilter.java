@@ -1,6 +1,8 @@
 package com.startingblue.fourtooncookie.global.authentication.filter;
 
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import com.startingblue.fourtooncookie.global.authentication.jwt.JwtExtractor;
+import com.startingblue.fourtooncookie.member.domain.MemberAuthProjection;
 import com.startingblue.fourtooncookie.member.service.MemberService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -13,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -42,7 +45,7 @@ public class AuthenticationFilter extends HttpFilter {
 
             if (isSignupRequest(requestURI, method)) {
                 log.info("Processing signup request for URI: {}", requestURI);
-                setMemberIdAttribute(request, memberId);
+                setAuthenticatedMember(request, AuthenticatedMember.signingUp(memberId));
                 chain.doFilter(request, response);
                 return;
             }
@@ -56,7 +59,7 @@ public class AuthenticationFilter extends HttpFilter {
     }
 
     private boolean shouldBypassAuthentication(String requestURI, String method) {
-        return requestURI.startsWith("/h2-console") || requestURI.startsWith("/health") ||
+        return requestURI.startsWith("/h2-console") || requestURI.startsWith("/health") || requestURI.startsWith("/lambda") ||
                 (method.equalsIgnoreCase("GET") && (requestURI.startsWith("/character") || requestURI.startsWith("/artwork")));
     }
 
@@ -66,15 +69,16 @@ public class AuthenticationFilter extends HttpFilter {
         return UUID.fromString(claims.getSubject());
     }
 
-    private void setMemberIdAttribute(HttpServletRequest request, UUID memberId) {
-        request.setAttribute("memberId", memberId);
+    private void setAuthenticatedMember(HttpServletRequest request, AuthenticatedMember authenticatedMember) {
+        authenticatedMember.bindTo(request);
     }
 
     private void handleRequestByUUID(HttpServletRequest request, HttpServletResponse response, FilterChain chain, UUID memberId)
             throws IOException, ServletException {
-        if (isExistsMember(memberId)) {
+        Optional<MemberAuthProjection> memberAuthProjection = memberService.readAuthProjection(memberId);
+        if (memberAuthProjection.isPresent()) {
             log.info("Login success for memberId: {}", memberId);
-            setMemberIdAttribute(request, memberId);
+            setAuthenticatedMember(request, AuthenticatedMember.of(memberId, memberAuthProjection.get()));
             chain.doFilter(request, response);
         } else {
             log.error("Member with id {} not found", memberId);
@@ -85,8 +89,4 @@ public class AuthenticationFilter extends HttpFilter {
     private boolean isSignupRequest(String requestURI, String method) {
         return "/member".equalsIgnoreCase(requestURI) && "POST".equalsIgnoreCase(method);
     }
-
-    private boolean isExistsMember(UUID memberId) {
-        return memberService.verifyMemberExists(memberId);
-    }
 }
@@ -1,38 +1,95 @@
 package com.startingblue.fourtooncookie.global.authentication.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.startingblue.fourtooncookie.global.authentication.filter.AuthenticationException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.Objects;
 
 @Component
 public class JwtExtractor {
 
     private static final String PREFIX_BEARER = "Bearer ";
+    private static final String TOKEN_DIGEST_ALGORITHM = "SHA-256";
 
-    @Value("${jwt.secret}")
-    private String SECRET_KEY;
+    // 서명 키와 파서는 첫 검증 때 한 번만 만든다. 빈 생성 시점에는 jwt.secret 을 검증하지 않는다.
+    private final SingletonSupplier<JwtParser> jwtParser;
 
-    @Value("${jwt.issuer-uri}")
-    private String ISSUER;
+    // 검증을 통과한 토큰의 Claims 를 토큰 다이제스트 기준으로 보관한다. 항목은 토큰의 exp 시각에 만료된다.
+    private final Cache<String, Claims> verifiedTokenCache;
+
+    private final Duration verifiedTokenMaxTtl;
+
+    private final Clock clock;
+
+    @Autowired
+    public JwtExtractor(@Value("${jwt.secret}") final String secretKey,
+                        @Value("${jwt.issuer-uri}") final String issuer,
+                        @Value("${jwt.cache.maximum-size:10000}") final Long verifiedTokenCacheMaximumSize,
+                        @Value("${jwt.cache.max-ttl-seconds:300}") final Long verifiedTokenMaxTtlSeconds) {
+        this(secretKey, issuer, verifiedTokenCacheMaximumSize, verifiedTokenMaxTtlSeconds, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    // 토큰 만료 검증(clock)과 캐시 만료(ticker)의 시간 원천을 바꿀 수 있게 열어 둔다.
+    public JwtExtractor(final String secretKey,
+                        final String issuer,
+                        final Long verifiedTokenCacheMaximumSize,
+                        final Long verifiedTokenMaxTtlSeconds,
+                        final Clock clock,
+                        final Ticker ticker) {
+        this.clock = clock;
+        this.jwtParser = SingletonSupplier.of(() -> buildParser(secretKey, issuer, clock));
+        this.verifiedTokenMaxTtl = Duration.ofSeconds(verifiedTokenMaxTtlSeconds);
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheMaximumSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    private static JwtParser buildParser(final String secretKey, final String issuer, final Clock clock) {
+        final Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(issuer)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+    }
 
     public Claims parseToken(final String token) {
-        final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        final String tokenDigest = digest(token);
+        final Claims cachedClaims = verifiedTokenCache.getIfPresent(tokenDigest);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
 
+        final Claims claims = verifyToken(token);
+        verifiedTokenCache.put(tokenDigest, claims);
+        return claims;
+    }
+
+    private Claims verifyToken(final String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .requireIssuer(ISSUER)
-                    .build()
-                    .parseClaimsJws(token)
+            return jwtParser.obtain().parseClaimsJws(token)
                     .getBody();
         } catch (SignatureException e) {
             throw new AuthenticationException("Invalid JWT signature", e);
@@ -47,6 +104,18 @@ public class JwtExtractor {
         }
     }
 
+    private String digest(final String token) {
+        if (token == null) {
+            return "";
+        }
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(TOKEN_DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public String resolveToken(final HttpServletRequest request) {
         final String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (Objects.nonNull(bearerToken) && bearerToken.startsWith(PREFIX_BEARER)) {
@@ -54,4 +123,27 @@ public class JwtExtractor {
         }
         throw new AuthenticationException("Token does not exist.");
     }
+
+    private class VerifiedTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(final String tokenDigest, final Claims claims, final long currentTime) {
+            final Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return verifiedTokenMaxTtl.toNanos();
+            }
+            final long remainingMillis = Math.max(0L, expiration.getTime() - clock.millis());
+            return Math.min(Duration.ofMillis(remainingMillis).toNanos(), verifiedTokenMaxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String tokenDigest, final Claims claims, final long currentTime, final long currentDuration) {
+            return expireAfterCreate(tokenDigest, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String tokenDigest, final Claims claims, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.startingblue.fourtooncookie.global.authorization;
 
 import com.startingblue.fourtooncookie.global.authorization.diary.DiaryOwnerAuthorizationInterceptor;
+import com.startingblue.fourtooncookie.global.authorization.lambda.LambdaCallbackAuthorizationInterceptor;
 import com.startingblue.fourtooncookie.global.authorization.member.MemberAdminAuthorizationInterceptor;
 import com.startingblue.fourtooncookie.global.authorization.member.MemberSignedUpAuthorizationInterceptor;
 import com.startingblue.fourtooncookie.member.dto.MemberArgumentResolver;
@@ -19,6 +20,7 @@ public class AuthorizationConfig implements WebMvcConfigurer {
     private final MemberSignedUpAuthorizationInterceptor memberSignedUpAuthorizationInterceptor;
     private final MemberAdminAuthorizationInterceptor memberAdminAuthorizationInterceptor;
     private final DiaryOwnerAuthorizationInterceptor diaryOwnerAuthorizationInterceptor;
+    private final LambdaCallbackAuthorizationInterceptor lambdaCallbackAuthorizationInterceptor;
     private final MemberArgumentResolver memberArgumentResolver;
 
     @Override
@@ -34,6 +36,9 @@ public class AuthorizationConfig implements WebMvcConfigurer {
                 .addPathPatterns("/diary/**")
                 .excludePathPatterns("/diary")
                 .excludePathPatterns("/diary/timeline");
+
+        registry.addInterceptor(lambdaCallbackAuthorizationInterceptor)
+                .addPathPatterns("/lambda/**");
     }
 
     @Override
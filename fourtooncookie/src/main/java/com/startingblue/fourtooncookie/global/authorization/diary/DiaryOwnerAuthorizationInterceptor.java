@@ -1,6 +1,8 @@
 package com.startingblue.fourtooncookie.global.authorization.diary;
 
 import com.startingblue.fourtooncookie.diary.service.DiaryService;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,15 +21,23 @@ import static jakarta.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 @Slf4j
 public class DiaryOwnerAuthorizationInterceptor implements HandlerInterceptor {
 
-    private static final String PATH_VARIABLE_MEMBER_KEY = "memberId";
     private static final String PATH_VARIABLE_DIARY_KEY = "diaryId";
+    private static final Pattern DIARY_PATH_PATTERN = Pattern.compile("/diary/(?<" + PATH_VARIABLE_DIARY_KEY + ">[^/]+)");
 
     private final DiaryService diaryService;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String memberIdStr = String.valueOf(request.getAttribute(PATH_VARIABLE_MEMBER_KEY));
-        if (!isValidMemberId(memberIdStr, response)) {
+        // 비동기 디스패치(StreamingResponseBody 완료 후)는 최초 요청에서 이미 검사했다.
+        // 이때 OSIV 가 커넥션을 쥔 채 다시 조회하면 동시 요청이 몰릴 때 커넥션 풀이 교착된다.
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        AuthenticatedMember authenticatedMember = AuthenticatedMember.from(request);
+        if (authenticatedMember == null) {
+            log.warn("Missing authenticated member");
+            response.setStatus(SC_FORBIDDEN);
             return false;
         }
 
@@ -37,23 +47,13 @@ public class DiaryOwnerAuthorizationInterceptor implements HandlerInterceptor {
         }
 
         try {
-            UUID memberId = UUID.fromString(memberIdStr);
             long diaryId = Long.parseLong(diaryIdStr);
-            return handleAuthorization(memberId, diaryId, response);
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid UUID format for memberId: {}", memberIdStr);
-            response.setStatus(SC_FORBIDDEN);
-            return false;
-        }
-    }
-
-    private boolean isValidMemberId(String memberIdStr, HttpServletResponse response) {
-        if (memberIdStr == null || memberIdStr.isEmpty()) {
-            log.warn("Missing or empty path variable '{}': {}", PATH_VARIABLE_MEMBER_KEY, memberIdStr);
+            return handleAuthorization(authenticatedMember.id(), diaryId, response);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid diaryId format: {}", diaryIdStr);
             response.setStatus(SC_FORBIDDEN);
             return false;
         }
-        return true;
     }
 
     private boolean isValidDiaryId(String diaryIdStr, HttpServletResponse response) {
@@ -80,8 +80,7 @@ public class DiaryOwnerAuthorizationInterceptor implements HandlerInterceptor {
     }
 
     private String extractPathVariable(String requestURI) {
-        Pattern pattern = Pattern.compile("/diary/(?<" + PATH_VARIABLE_DIARY_KEY + ">[^/]+)");
-        Matcher matcher = pattern.matcher(requestURI);
+        Matcher matcher = DIARY_PATH_PATTERN.matcher(requestURI);
         if (matcher.find()) {
             return matcher.group(PATH_VARIABLE_DIARY_KEY);
         }
@@ -0,0 +1,46 @@
+package com.startingblue.fourtooncookie.global.authorization.lambda;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_UNAUTHORIZED;
+
+@Component
+@Slf4j
+public class LambdaCallbackAuthorizationInterceptor implements HandlerInterceptor {
+
+    private static final String CALLBACK_SECRET_HEADER = "X-Lambda-Callback-Secret";
+
+    private final byte[] callbackSecret;
+
+    public LambdaCallbackAuthorizationInterceptor(@Value("${aws.lambda.callback.secret:}") String callbackSecret) {
+        this.callbackSecret = callbackSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String providedSecret = request.getHeader(CALLBACK_SECRET_HEADER);
+        if (isAuthorized(providedSecret)) {
+            return true;
+        }
+
+        log.warn("Unauthorized lambda callback request: {}", request.getRequestURI());
+        response.setStatus(SC_UNAUTHORIZED);
+        return false;
+    }
+
+    // 시크릿이 설정되지 않은 경우 콜백을 모두 거부한다.
+    private boolean isAuthorized(String providedSecret) {
+        if (callbackSecret.length == 0 || providedSecret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(callbackSecret, providedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,6 @@
 package com.startingblue.fourtooncookie.global.authorization.member;
 
-import com.startingblue.fourtooncookie.member.service.MemberService;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +12,6 @@ import java.util.UUID;
 @Slf4j
 public class MemberAdminAuthorizationInterceptor extends MemberAuthorizationInterceptor {
 
-    public MemberAdminAuthorizationInterceptor(MemberService memberService) {
-        super(memberService);
-    }
-
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
         if ("GET".equalsIgnoreCase(request.getMethod()) &&
@@ -29,8 +25,9 @@ public class MemberAdminAuthorizationInterceptor extends MemberAuthorizationInte
     }
 
     @Override
-    protected boolean isAuthorized(UUID memberId) {
-        boolean isAuthorized = memberService.verifyMemberAdmin(memberId);
+    protected boolean isAuthorized(AuthenticatedMember authenticatedMember) {
+        UUID memberId = authenticatedMember.id();
+        boolean isAuthorized = authenticatedMember.admin();
 
         if (isAuthorized) {
             log.info("Authorization success: Member with ID [{}] has admin privileges.", memberId);
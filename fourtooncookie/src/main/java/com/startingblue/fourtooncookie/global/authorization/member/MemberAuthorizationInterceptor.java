@@ -1,51 +1,35 @@
 package com.startingblue.fourtooncookie.global.authorization.member;
 
-import com.startingblue.fourtooncookie.member.service.MemberService;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.UUID;
-
 import static jakarta.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 
-@RequiredArgsConstructor
 @Slf4j
 public abstract class MemberAuthorizationInterceptor implements HandlerInterceptor {
 
-    private static final String PATH_VARIABLE_KEY = "memberId";
-    protected final MemberService memberService;
-
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String memberIdStr = String.valueOf(request.getAttribute(PATH_VARIABLE_KEY));
-
-        if (memberIdStr == null || memberIdStr.isEmpty()) {
-            log.warn("Missing or empty path variable '{}'", PATH_VARIABLE_KEY);
-            response.setStatus(SC_FORBIDDEN);
-            return false;
-        }
+        AuthenticatedMember authenticatedMember = AuthenticatedMember.from(request);
 
-        UUID memberId;
-        try {
-            memberId = UUID.fromString(memberIdStr);
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid UUID format for memberId: {}", memberIdStr);
+        if (authenticatedMember == null) {
+            log.warn("Missing authenticated member");
             response.setStatus(SC_FORBIDDEN);
             return false;
         }
 
-        if (isAuthorized(memberId)) {
-            log.info("Member with id {} is authorized", memberId);
+        if (isAuthorized(authenticatedMember)) {
+            log.info("Member with id {} is authorized", authenticatedMember.id());
             return true;
         }
 
-        log.info("Member with id {} is not authorized", memberId);
+        log.info("Member with id {} is not authorized", authenticatedMember.id());
         response.setStatus(SC_FORBIDDEN);
         return false;
     }
 
-    protected abstract boolean isAuthorized(UUID memberId);
+    protected abstract boolean isAuthorized(AuthenticatedMember authenticatedMember);
 }
@@ -1,6 +1,6 @@
 package com.startingblue.fourtooncookie.global.authorization.member;
 
-import com.startingblue.fourtooncookie.member.service.MemberService;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -10,13 +10,10 @@ import java.util.UUID;
 @Slf4j
 public class MemberSignedUpAuthorizationInterceptor extends MemberAuthorizationInterceptor {
 
-    public MemberSignedUpAuthorizationInterceptor(MemberService memberService) {
-        super(memberService);
-    }
-
     @Override
-    protected boolean isAuthorized(UUID memberId) {
-        boolean isAuthorized = memberService.verifyMemberSignUp(memberId);
+    protected boolean isAuthorized(AuthenticatedMember authenticatedMember) {
+        UUID memberId = authenticatedMember.id();
+        boolean isAuthorized = authenticatedMember.signedUp();
 
         if (isAuthorized) {
             log.info("Authorization success: Member with ID [{}] is already signed up.", memberId);
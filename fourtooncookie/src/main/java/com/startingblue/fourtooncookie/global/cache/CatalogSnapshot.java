@@ -0,0 +1,11 @@
+package com.startingblue.fourtooncookie.global.cache;
+
+import org.springframework.util.DigestUtils;
+
+// 직렬화된 카탈로그 응답과 그 본문으로 계산한 ETag. 본문이 같으면 인스턴스가 달라도 ETag 가 같다.
+public record CatalogSnapshot(byte[] body, String eTag) {
+
+    public static CatalogSnapshot of(byte[] body) {
+        return new CatalogSnapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
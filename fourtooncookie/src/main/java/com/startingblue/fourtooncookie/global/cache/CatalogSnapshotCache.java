@@ -0,0 +1,49 @@
+package com.startingblue.fourtooncookie.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.startingblue.fourtooncookie.global.transaction.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 카탈로그 응답 전체를 직렬화된 상태로 하나만 보관한다. 변경 시 무효화되고 다음 조회에서 다시 만들어진다.
+// 다른 인스턴스에서의 변경은 TTL 이 지나야 반영된다.
+public abstract class CatalogSnapshotCache {
+
+    private static final String SNAPSHOT_KEY = "catalog";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CatalogSnapshot> cache;
+
+    protected CatalogSnapshotCache(ObjectMapper objectMapper, Long timeToLiveInSeconds, MeterRegistry meterRegistry, String cacheName) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(timeToLiveInSeconds))
+                .maximumSize(1)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    }
+
+    public CatalogSnapshot get(Supplier<?> responseLoader) {
+        return cache.get(SNAPSHOT_KEY, key -> CatalogSnapshot.of(serialize(responseLoader.get())));
+    }
+
+    // 동시 조회가 이전 데이터로 스냅샷을 다시 만들지 않도록 커밋 후에 무효화한다.
+    public void invalidate() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+}
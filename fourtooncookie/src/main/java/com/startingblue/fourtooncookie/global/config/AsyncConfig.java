@@ -1,18 +1,34 @@
 package com.startingblue.fourtooncookie.global.config;
 
+import com.startingblue.fourtooncookie.global.monitoring.CountingRejectedExecutionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.hibernate.query.sqm.tree.SqmNode.log;
 
+// 실행기마다 ContextPropagatingTaskDecorator 를 달아 제출한 스레드의 추적 문맥(traceId, spanId)을 작업 스레드로 넘긴다.
+// 가상 스레드 모드에서도 같은 크기의 풀과 큐를 쓰고 스레드 종류만 바꾼다. 포화 시 제출한 스레드를 막지 않고 거절한다.
 @Configuration
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
@@ -21,10 +37,51 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setMaxPoolSize(20);    // 최대 스레드 수
         executor.setQueueCapacity(100); // 작업 큐 크기
         executor.setThreadNamePrefix("AsyncThread-");
+        useVirtualThreadsIfEnabled(executor);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler(countRejections("taskExecutor"));
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "diaryImageGenerationExecutor")
+    public Executor diaryImageGenerationExecutor(@Value("${diary.image-generation.outbox.concurrency:20}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);  // 동시에 처리할 그림 생성 작업 수
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("DiaryImageGeneration-");
+        useVirtualThreadsIfEnabled(executor);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler(countRejections("diaryImageGenerationExecutor"));
+        executor.initialize();
+        return executor;
+    }
+
+    // 외부 의존성 헬스 체크 전용 실행기. taskExecutor 가 포화되어도 체크가 밀리거나 건너뛰어지지 않도록 분리한다.
+    @Bean(name = "healthCheckExecutor")
+    public Executor healthCheckExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);    // 버킷, Lambda 체크를 동시에 실행
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(2);
+        executor.setThreadNamePrefix("HealthCheck-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler(countRejections("healthCheckExecutor"));
         executor.initialize();
         return executor;
     }
 
+    private void useVirtualThreadsIfEnabled(ThreadPoolTaskExecutor executor) {
+        if (virtualThreadsEnabled) {
+            executor.setThreadFactory(Thread.ofVirtual().name(executor.getThreadNamePrefix(), 1).factory());
+        }
+    }
+
+    private RejectedExecutionHandler countRejections(String executorName) {
+        return new CountingRejectedExecutionHandler(executorName, new ThreadPoolExecutor.AbortPolicy(), meterRegistryProvider);
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (throwable, method, obj) -> {
@@ -0,0 +1,20 @@
+package com.startingblue.fourtooncookie.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // Spring 기본값(DELAYED_ACQUISITION_AND_HOLD)은 OSIV 세션이 닫힐 때까지 커넥션을 쥐고 있는다.
+    // 합본 이미지처럼 StreamingResponseBody 로 비동기 처리되는 요청은 디스패치할 컨테이너 스레드를 기다리는 동안에도
+    // 커넥션을 놓지 않아, 컨테이너 스레드가 모두 커넥션을 기다리면 풀이 교착된다. 트랜잭션이 끝나면 커넥션을 반납한다.
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,44 @@
+package com.startingblue.fourtooncookie.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    private static final long ASYNC_REQUEST_TIMEOUT_MILLIS = 30_000L;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    // 비동기 요청(StreamingResponseBody, Callable 등) 처리용 스레드 풀 (기본 SimpleAsyncTaskExecutor 는 플랫폼 스레드 수 제한이 없다)
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(createTaskExecutor());
+        configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT_MILLIS);
+    }
+
+    private AsyncTaskExecutor createTaskExecutor() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("MvcAsync-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(10);   // 기본 스레드 수
+        executor.setMaxPoolSize(20);    // 최대 스레드 수
+        executor.setQueueCapacity(100); // 작업 큐 크기
+        executor.setThreadNamePrefix("MvcAsync-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+}
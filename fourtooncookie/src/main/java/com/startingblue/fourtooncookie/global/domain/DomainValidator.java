@@ -0,0 +1,27 @@
+package com.startingblue.fourtooncookie.global.domain;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.util.Set;
+
+// 엔티티 생성/수정 시 사용하는 공용 Validator. ValidatorFactory 생성은 Hibernate Validator 부트스트랩과
+// 메타데이터 스캔을 포함하므로 애플리케이션 전체에서 한 번만 만든다. Validator 는 스레드 안전하다.
+public final class DomainValidator {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+    private static final Validator VALIDATOR = VALIDATOR_FACTORY.getValidator();
+
+    private DomainValidator() {
+    }
+
+    public static <T> void validate(T target) {
+        Set<ConstraintViolation<T>> violations = VALIDATOR.validate(target);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+}
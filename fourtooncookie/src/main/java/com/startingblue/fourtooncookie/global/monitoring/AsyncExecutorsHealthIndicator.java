@@ -0,0 +1,75 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+// AsyncConfig 의 작업 실행기가 모두 바쁘고 큐도 거의 찼으면 OUT_OF_SERVICE 로 알려 readiness 에서 빠지게 한다.
+// diaryImageS3Executor 는 포화 시 호출 스레드에서 실행(CallerRuns)하는 정상적인 배압이고, healthCheckExecutor 는 체크 자체를 돌리는 실행기라 제외한다.
+// ThreadPoolTaskExecutor 가 아닌 실행기(SimpleAsyncTaskExecutor 등)는 대기 작업 수를 알 수 없어 제외한다.
+@Component
+public class AsyncExecutorsHealthIndicator implements HealthIndicator {
+
+    private final Map<String, Executor> executors;
+    private final double saturationThreshold;
+
+    @Autowired
+    public AsyncExecutorsHealthIndicator(@Qualifier("taskExecutor") Executor taskExecutor,
+                                         @Qualifier("diaryImageGenerationExecutor") Executor diaryImageGenerationExecutor,
+                                         @Value("${monitoring.health.executor.saturation-threshold:0.9}") double saturationThreshold) {
+        this(asyncExecutors(taskExecutor, diaryImageGenerationExecutor), saturationThreshold);
+    }
+
+    AsyncExecutorsHealthIndicator(Map<String, Executor> executors, double saturationThreshold) {
+        this.executors = executors;
+        this.saturationThreshold = saturationThreshold;
+    }
+
+    private static Map<String, Executor> asyncExecutors(Executor taskExecutor, Executor diaryImageGenerationExecutor) {
+        Map<String, Executor> executors = new LinkedHashMap<>();
+        executors.put("taskExecutor", taskExecutor);
+        executors.put("diaryImageGenerationExecutor", diaryImageGenerationExecutor);
+        return executors;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        executors.forEach((name, executor) -> {
+            if (!(executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor)) {
+                return;
+            }
+            boolean saturated = isSaturated(threadPoolTaskExecutor);
+            if (saturated) {
+                builder.outOfService();
+            }
+            builder.withDetail(name, describe(threadPoolTaskExecutor, saturated));
+        });
+        return builder.build();
+    }
+
+    private boolean isSaturated(ThreadPoolTaskExecutor executor) {
+        if (executor.getActiveCount() < executor.getMaxPoolSize()) {
+            return false;
+        }
+        return executor.getQueueSize() >= executor.getQueueCapacity() * saturationThreshold;
+    }
+
+    private Map<String, Object> describe(ThreadPoolTaskExecutor executor, boolean saturated) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("active", executor.getActiveCount());
+        details.put("maxPoolSize", executor.getMaxPoolSize());
+        details.put("queued", executor.getQueueSize());
+        details.put("queueCapacity", executor.getQueueCapacity());
+        details.put("saturated", saturated);
+        return details;
+    }
+}
@@ -0,0 +1,79 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+// AWS SDK 호출(S3 HEAD/GET/PUT/DELETE, Lambda Invoke 등)마다 aws.sdk.requests 관측을 남긴다.
+// 메트릭으로는 서비스, 오퍼레이션, 결과별 응답 시간이, 추적으로는 "S3 GetObject" 같은 이름의 스팬이 기록된다.
+// 재시도가 있으면 모든 시도를 합친 시간이다.
+@Component
+public class AwsSdkObservationInterceptor implements ExecutionInterceptor {
+
+    private static final String OBSERVATION_NAME = "aws.sdk.requests";
+
+    private static final ExecutionAttribute<Observation> OBSERVATION = new ExecutionAttribute<>("MicrometerObservation");
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final ObservationRegistry observationRegistry;
+
+    public AwsSdkObservationInterceptor(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        String service = valueOrUnknown(executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME));
+        String operation = valueOrUnknown(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(service + " " + operation)
+                .lowCardinalityKeyValue("service", service)
+                .lowCardinalityKeyValue("operation", operation)
+                .start();
+        executionAttributes.putAttribute(OBSERVATION, observation);
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        stop(executionAttributes, context.httpResponse().statusCode(), null);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        Throwable exception = context.exception();
+        stop(executionAttributes, exception instanceof AwsServiceException e ? e.statusCode() : 0, exception);
+    }
+
+    private void stop(ExecutionAttributes executionAttributes, int statusCode, Throwable exception) {
+        Observation observation = executionAttributes.getAttribute(OBSERVATION);
+        if (observation == null) {
+            return;
+        }
+        observation.lowCardinalityKeyValue("status", statusCode == 0 ? "IO_ERROR" : String.valueOf(statusCode))
+                .lowCardinalityKeyValue("outcome", toOutcome(statusCode));
+        if (exception != null) {
+            observation.error(exception);
+        }
+        observation.stop();
+    }
+
+    private String toOutcome(int statusCode) {
+        if (statusCode == 0) {
+            return UNKNOWN;
+        }
+        if (statusCode < 300) {
+            return "SUCCESS";
+        }
+        return statusCode < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+
+    private String valueOrUnknown(String value) {
+        return value == null ? UNKNOWN : value;
+    }
+}
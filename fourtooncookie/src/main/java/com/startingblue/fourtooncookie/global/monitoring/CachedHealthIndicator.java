@@ -0,0 +1,54 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+// 외부 의존성 상태를 주기적으로 확인해 두고, 프로브 요청에는 마지막 결과만 돌려준다.
+// 확인은 전용 checkExecutor 에서 실행되어 스케줄러 스레드(아웃박스 디스패처와 공유)나 사용자 작업 실행기를 붙잡지 않는다.
+@Slf4j
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+    private final Executor checkExecutor;
+
+    private volatile Health health = Health.unknown()
+            .withDetail("reason", "아직 상태를 확인하지 않았습니다.")
+            .build();
+
+    protected CachedHealthIndicator(Executor checkExecutor) {
+        this.checkExecutor = checkExecutor;
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    @Scheduled(fixedDelayString = "${monitoring.health.refresh-interval-millis:30000}")
+    public void scheduleRefresh() {
+        try {
+            checkExecutor.execute(this::refresh);
+        } catch (RejectedExecutionException e) {
+            // 실행기 포화는 AsyncExecutorsHealthIndicator 가 따로 알린다. 이번 주기는 건너뛰고 이전 결과를 유지한다.
+            log.warn("Health check skipped, executor is saturated: {}", getClass().getSimpleName());
+        }
+    }
+
+    public void refresh() {
+        Health.Builder builder = new Health.Builder();
+        try {
+            doHealthCheck(builder);
+        } catch (Exception e) {
+            log.warn("Health check failed: {}", getClass().getSimpleName(), e);
+            builder.down(e);
+        }
+        health = builder.withDetail("checkedAt", Instant.now().toString()).build();
+    }
+
+    protected abstract void doHealthCheck(Health.Builder builder) throws Exception;
+}
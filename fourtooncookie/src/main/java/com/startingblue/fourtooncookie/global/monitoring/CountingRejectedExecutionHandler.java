@@ -0,0 +1,32 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 거절된 작업 수를 executor.rejected 카운터로 남기고 원래 거절 정책을 그대로 따른다.
+// name 태그는 Actuator 가 executor.* 메트릭에 붙이는 빈 이름과 같게 맞춘다.
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private static final String METRIC_NAME = "executor.rejected";
+
+    private final String executorName;
+    private final RejectedExecutionHandler delegate;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public CountingRejectedExecutionHandler(String executorName,
+                                            RejectedExecutionHandler delegate,
+                                            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.executorName = executorName;
+        this.delegate = delegate;
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+        meterRegistryProvider.ifAvailable(meterRegistry -> meterRegistry.counter(METRIC_NAME, "name", executorName).increment());
+        delegate.rejectedExecution(runnable, executor);
+    }
+}
@@ -1,16 +1,50 @@
 package com.startingblue.fourtooncookie.global.monitoring;
 
-import org.springframework.http.HttpStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+// Actuator 의 liveness, readiness 그룹 결과를 서비스 포트에서 인증 없이 확인할 수 있게 한다. (그룹 구성은 monitoring.properties 참고)
+// 기존 로드 밸런서 설정이 그대로 동작하도록 /health 는 readiness 결과를 따른다.
 @RestController
 @RequestMapping("/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private static final String LIVENESS_GROUP = "liveness";
+    private static final String READINESS_GROUP = "readiness";
+
+    private final HealthEndpoint healthEndpoint;
+    private final HttpCodeStatusMapper httpCodeStatusMapper;
+
     @GetMapping
-    public HttpStatus health() {
-        return HttpStatus.OK;
+    public ResponseEntity<Status> health() {
+        return readiness();
+    }
+
+    @GetMapping("/liveness")
+    public ResponseEntity<Status> liveness() {
+        return toResponse(healthForGroup(LIVENESS_GROUP));
+    }
+
+    @GetMapping("/readiness")
+    public ResponseEntity<Status> readiness() {
+        return toResponse(healthForGroup(READINESS_GROUP));
+    }
+
+    // 프로브 그룹이 꺼져 있으면 전체 상태로 대신한다.
+    private Status healthForGroup(String group) {
+        HealthComponent health = healthEndpoint.healthForPath(group);
+        return health == null ? healthEndpoint.health().getStatus() : health.getStatus();
+    }
+
+    private ResponseEntity<Status> toResponse(Status status) {
+        return ResponseEntity.status(httpCodeStatusMapper.getStatusCode(status)).body(status);
     }
 }
@@ -0,0 +1,21 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// 배포 환경의 application.yml 을 건드리지 않도록 Actuator, Micrometer 기본값을 가장 낮은 우선순위로 등록한다.
+@Configuration
+@PropertySource("classpath:monitoring.properties")
+public class MonitoringConfig {
+
+    // 수집기 없이 로컬에서 볼 때 끝난 스팬을 애플리케이션 로그로 남긴다. OTLP 내보내기와 함께 켤 수 있다.
+    @Bean
+    @ConditionalOnProperty(name = "monitoring.tracing.log-exporter.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
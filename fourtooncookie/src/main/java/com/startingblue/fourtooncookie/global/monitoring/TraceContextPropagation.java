@@ -0,0 +1,53 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 스레드 풀로는 전달되지 않는 경계(아웃박스 작업, Lambda 페이로드)를 넘을 때 추적 문맥을 W3C traceparent 문자열로 옮긴다.
+// 추적이 꺼져 있거나 현재 스팬이 없으면 traceparent 는 null 이다.
+@Component
+public class TraceContextPropagation {
+
+    private static final String TRACE_PARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public TraceContextPropagation(Tracer tracer, ObjectProvider<Propagator> propagatorProvider) {
+        this.tracer = tracer;
+        this.propagator = propagatorProvider.getIfAvailable(() -> Propagator.NOOP);
+    }
+
+    public String currentTraceParent() {
+        TraceContext context = tracer.currentTraceContext().context();
+        if (context == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(context, carrier, Map::put);
+        return carrier.get(TRACE_PARENT);
+    }
+
+    // traceparent 를 부모로 하는 스팬 안에서 작업을 실행한다. 값이 없으면 현재 문맥에서 새 스팬을 시작한다.
+    public void runInSpan(String spanName, String traceParent, Runnable task) {
+        Span.Builder spanBuilder = traceParent == null
+                ? tracer.spanBuilder()
+                : propagator.extract(Map.of(TRACE_PARENT, traceParent), Map::get);
+        Span span = spanBuilder.name(spanName).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            task.run();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
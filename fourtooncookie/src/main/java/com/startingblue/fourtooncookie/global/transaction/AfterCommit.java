@@ -0,0 +1,24 @@
+package com.startingblue.fourtooncookie.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 안에서 호출되면 커밋된 뒤에 실행하고, 롤백되면 실행하지 않는다. 트랜잭션 밖에서는 바로 실행한다.
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
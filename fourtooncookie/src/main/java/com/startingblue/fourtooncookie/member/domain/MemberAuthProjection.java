@@ -0,0 +1,10 @@
+package com.startingblue.fourtooncookie.member.domain;
+
+// 인증/인가 체인에서 필요한 회원 정보만 담은 스냅샷
+public record MemberAuthProjection(boolean signedUp, boolean admin) {
+
+    // MemberRepository.findAuthProjectionById 의 생성자 표현식에서 사용한다.
+    public MemberAuthProjection(String name, Role role) {
+        this(name != null && !name.isEmpty(), role == Role.ADMIN);
+    }
+}
@@ -1,10 +1,24 @@
 package com.startingblue.fourtooncookie.member.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, UUID> {
+
+    // 인증 필터가 요청마다 호출하므로 엔티티 대신 필요한 컬럼만 읽는다.
+    @Query("select new com.startingblue.fourtooncookie.member.domain.MemberAuthProjection(m.name, m.role) " +
+            "from Member m where m.id = :id")
+    Optional<MemberAuthProjection> findAuthProjectionById(@Param("id") UUID id);
+
+    // deleteById 와 달리 엔티티를 먼저 조회하지 않는다.
+    @Modifying
+    @Query("delete from Member m where m.id = :id")
+    int hardDeleteById(@Param("id") UUID id);
 }
@@ -1,5 +1,6 @@
 package com.startingblue.fourtooncookie.member.dto;
 
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import com.startingblue.fourtooncookie.global.authentication.filter.AuthenticationException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotNull;
@@ -17,7 +18,8 @@ public class MemberArgumentResolver implements HandlerMethodArgumentResolver {
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return UUID.class.equals(parameter.getParameterType());
+        return UUID.class.equals(parameter.getParameterType())
+                || AuthenticatedMember.class.equals(parameter.getParameterType());
     }
 
     @Override
@@ -26,8 +28,11 @@ public class MemberArgumentResolver implements HandlerMethodArgumentResolver {
                                   NativeWebRequest webRequest,
                                   WebDataBinderFactory binderFactory) {
         HttpServletRequest request = getRequest(webRequest);
-        String memberIdString = getMemberIdString(request);
-        return parseMemberId(memberIdString);
+        AuthenticatedMember authenticatedMember = getAuthenticatedMember(request);
+        if (AuthenticatedMember.class.equals(parameter.getParameterType())) {
+            return authenticatedMember;
+        }
+        return authenticatedMember.id();
     }
 
     private HttpServletRequest getRequest(NativeWebRequest webRequest) {
@@ -38,19 +43,11 @@ public class MemberArgumentResolver implements HandlerMethodArgumentResolver {
         return request;
     }
 
-    private String getMemberIdString(HttpServletRequest request) {
-        String memberIdString = String.valueOf(request.getAttribute("memberId"));
-        if (memberIdString == null || memberIdString.isEmpty()) {
+    private AuthenticatedMember getAuthenticatedMember(HttpServletRequest request) {
+        AuthenticatedMember authenticatedMember = AuthenticatedMember.from(request);
+        if (authenticatedMember == null) {
             throw new AuthenticationException("Member ID is missing");
         }
-        return memberIdString;
-    }
-
-    private UUID parseMemberId(String memberIdString) {
-        try {
-            return UUID.fromString(memberIdString);
-        } catch (IllegalArgumentException e) {
-            throw new AuthenticationException("Invalid member ID format", e);
-        }
+        return authenticatedMember;
     }
 }
@@ -0,0 +1,46 @@
+package com.startingblue.fourtooncookie.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.startingblue.fourtooncookie.global.transaction.AfterCommit;
+import com.startingblue.fourtooncookie.member.domain.MemberAuthProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+public class MemberAuthCache {
+
+    private static final String CACHE_NAME = "memberAuth";
+
+    // 존재하는 회원만 저장한다. 다른 인스턴스에서 가입한 회원이 TTL 동안 거부되지 않도록 부재 결과는 캐시하지 않는다.
+    private final Cache<UUID, MemberAuthProjection> cache;
+
+    public MemberAuthCache(@Value("${member.auth-cache.ttl-seconds:60}") Long timeToLiveInSeconds,
+                           @Value("${member.auth-cache.maximum-size:10000}") Long maximumSize,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(timeToLiveInSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public MemberAuthProjection getIfPresent(UUID memberId) {
+        return cache.getIfPresent(memberId);
+    }
+
+    public void put(UUID memberId, MemberAuthProjection memberAuthProjection) {
+        cache.put(memberId, memberAuthProjection);
+    }
+
+    // 동시 요청이 이전 회원 정보를 TTL 동안 캐시하지 않도록 커밋 후에 지운다.
+    public void evict(UUID memberId) {
+        AfterCommit.run(() -> cache.invalidate(memberId));
+    }
+}
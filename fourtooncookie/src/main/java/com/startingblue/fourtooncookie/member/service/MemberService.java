@@ -1,6 +1,7 @@
 package com.startingblue.fourtooncookie.member.service;
 
 import com.startingblue.fourtooncookie.member.domain.Member;
+import com.startingblue.fourtooncookie.member.domain.MemberAuthProjection;
 import com.startingblue.fourtooncookie.member.domain.MemberRepository;
 import com.startingblue.fourtooncookie.member.domain.Role;
 import com.startingblue.fourtooncookie.member.dto.request.MemberSaveRequest;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -19,9 +21,10 @@ import java.util.UUID;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberAuthCache memberAuthCache;
 
     public void save(UUID memberId, MemberSaveRequest memberSaveRequest) {
-        if (verifyMemberExists(memberId)) {
+        if (memberRepository.existsById(memberId)) {
             throw new MemberDuplicateException("Member with id " + memberId + " already exists");
         };
 
@@ -33,6 +36,7 @@ public class MemberService {
                 .role(Role.MEMBER)
                 .build();
         memberRepository.save(member);
+        memberAuthCache.evict(memberId);
     }
 
     public Member readById(UUID memberId) {
@@ -40,21 +44,20 @@ public class MemberService {
     }
 
     public void hardDeleteById(UUID memberId) {
-        memberRepository.deleteById(memberId);
+        memberRepository.hardDeleteById(memberId);
+        memberAuthCache.evict(memberId);
     }
 
-    public boolean verifyMemberExists(UUID memberId) {
-        return memberRepository.existsById(memberId);
-    }
-
-    public boolean verifyMemberSignUp(UUID memberId) {
-        Member member = readById(memberId);
-        return member != null && member.getName() != null && !member.getName().isEmpty();
-    }
+    @Transactional(readOnly = true)
+    public Optional<MemberAuthProjection> readAuthProjection(UUID memberId) {
+        MemberAuthProjection cachedProjection = memberAuthCache.getIfPresent(memberId);
+        if (cachedProjection != null) {
+            return Optional.of(cachedProjection);
+        }
 
-    public boolean verifyMemberAdmin(UUID memberId) {
-        Member member = readById(memberId);
-        return member.isAdmin();
+        Optional<MemberAuthProjection> memberAuthProjection = memberRepository.findAuthProjectionById(memberId);
+        memberAuthProjection.ifPresent(projection -> memberAuthCache.put(memberId, projection));
+        return memberAuthProjection;
     }
 
 }
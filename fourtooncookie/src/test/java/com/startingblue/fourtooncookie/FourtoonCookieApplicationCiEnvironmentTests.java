@@ -0,0 +1,19 @@
+package com.startingblue.fourtooncookie;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// PR 테스트 워크플로우(pr-develop-test.yml)처럼 설정 값을 빈 문자열로 두어도 컨텍스트가 떠야 한다.
+@SpringBootTest(properties = {
+		"jwt.secret=",
+		"jwt.issuer-uri=",
+		"aws.diaryimage.bucket.name=",
+		"aws.diaryimage.presignedurl.duration="
+})
+class FourtoonCookieApplicationCiEnvironmentTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
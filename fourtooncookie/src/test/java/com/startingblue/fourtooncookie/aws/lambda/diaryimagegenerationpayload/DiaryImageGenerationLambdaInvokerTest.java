@@ -0,0 +1,149 @@
+package com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startingblue.fourtooncookie.aws.s3.service.DiaryImageS3Service;
+import com.startingblue.fourtooncookie.character.domain.Character;
+import com.startingblue.fourtooncookie.diary.domain.Diary;
+import com.startingblue.fourtooncookie.diary.domain.DiaryRepository;
+import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.diary.service.DiaryImageGenerationJobService;
+import com.startingblue.fourtooncookie.diary.service.DiaryStatusMetrics;
+import com.startingblue.fourtooncookie.global.monitoring.TraceContextPropagation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.lambda.model.InvocationType;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class DiaryImageGenerationLambdaInvokerTest {
+
+    private static final Long DIARY_ID = 1L;
+
+    @Mock
+    private LambdaClient lambdaClient;
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private DiaryImageS3Service diaryImageS3Service;
+
+    @Mock
+    private DiaryImageGenerationJobService diaryImageGenerationJobService;
+
+    @Mock
+    private TraceContextPropagation traceContextPropagation;
+
+    @Mock
+    private Character character;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DiaryImageGenerationLambdaInvoker diaryImageGenerationLambdaInvoker;
+
+    private Diary diary;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        diaryImageGenerationLambdaInvoker = new DiaryImageGenerationLambdaInvoker(
+                lambdaClient,
+                ObservationRegistry.NOOP,
+                new ObjectMapper(),
+                diaryRepository,
+                diaryImageS3Service,
+                new DiaryStatusMetrics(meterRegistry),
+                diaryImageGenerationJobService,
+                traceContextPropagation,
+                InvocationType.EVENT,
+                "https://api.fourtooncookie.com/lambda/diary-image/callback");
+
+        diary = Diary.builder()
+                .content("일기 내용")
+                .isFavorite(false)
+                .diaryDate(LocalDate.of(2024, 7, 1))
+                .status(DiaryStatus.IN_PROGRESS)
+                .character(character)
+                .memberId(UUID.randomUUID())
+                .build();
+        ReflectionTestUtils.setField(diary, "id", DIARY_ID);
+        when(diaryRepository.findById(DIARY_ID)).thenReturn(Optional.of(diary));
+    }
+
+    @Test
+    @DisplayName("생성 중에 일기가 수정되면 이전 생성의 완료는 버리고 최근 생성의 완료만 반영한다")
+    void completeOnlyLatestGeneration() {
+        // given
+        int staleGeneration = diary.startPaintingGeneration();
+        int latestGeneration = diary.startPaintingGeneration();
+
+        // when
+        diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(DIARY_ID, staleGeneration, DiaryStatus.COMPLETED);
+
+        // then
+        assertThat(diary.getStatus()).isEqualTo(DiaryStatus.IN_PROGRESS);
+        assertThat(diary.getPaintingImageVersion()).isZero();
+        verify(diaryImageS3Service, never()).deleteFullImage(anyLong(), anyInt());
+
+        // when
+        diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(DIARY_ID, latestGeneration, DiaryStatus.COMPLETED);
+
+        // then
+        assertThat(diary.getStatus()).isEqualTo(DiaryStatus.COMPLETED);
+        assertThat(diary.getPaintingImageVersion()).isEqualTo(1);
+        assertThat(meterRegistry.get("diary.status.transitions")
+                .tag("from", DiaryStatus.IN_PROGRESS.name())
+                .tag("to", DiaryStatus.COMPLETED.name())
+                .counter()
+                .count()).isEqualTo(1);
+        verify(diaryImageS3Service).deleteFullImage(DIARY_ID, 0);
+    }
+
+    @Test
+    @DisplayName("최근 생성이 먼저 끝난 뒤 도착한 이전 생성의 완료는 버전을 올리지 않는다")
+    void ignoreStaleCompletionAfterLatest() {
+        // given
+        int staleGeneration = diary.startPaintingGeneration();
+        int latestGeneration = diary.startPaintingGeneration();
+        diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(DIARY_ID, latestGeneration, DiaryStatus.COMPLETED);
+
+        // when
+        diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(DIARY_ID, staleGeneration, DiaryStatus.FAILED);
+
+        // then
+        assertThat(diary.getStatus()).isEqualTo(DiaryStatus.COMPLETED);
+        assertThat(diary.getPaintingImageVersion()).isEqualTo(1);
+        verify(diaryImageS3Service, times(1)).deleteFullImage(anyLong(), anyInt());
+        verify(diaryImageGenerationJobService).completeByDiaryIdAndGeneration(DIARY_ID, staleGeneration);
+    }
+
+    @Test
+    @DisplayName("같은 생성의 중복 완료는 한 번만 반영한다")
+    void ignoreDuplicateCompletion() {
+        // given
+        int generation = diary.startPaintingGeneration();
+
+        // when
+        diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(DIARY_ID, generation, DiaryStatus.COMPLETED);
+        diaryImageGenerationLambdaInvoker.completeDiaryImageGeneration(DIARY_ID, generation, DiaryStatus.COMPLETED);
+
+        // then
+        assertThat(diary.getPaintingImageVersion()).isEqualTo(1);
+        verify(diaryImageS3Service, times(1)).deleteFullImage(DIARY_ID, 0);
+    }
+}
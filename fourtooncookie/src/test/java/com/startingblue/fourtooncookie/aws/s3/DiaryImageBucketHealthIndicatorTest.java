@@ -0,0 +1,71 @@
+package com.startingblue.fourtooncookie.aws.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryImageBucketHealthIndicatorTest {
+
+    private static final String BUCKET_NAME = "test-bucket";
+
+    @Mock
+    private S3Client s3Client;
+
+    private DiaryImageBucketHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        healthIndicator = new DiaryImageBucketHealthIndicator(s3Client, BUCKET_NAME, Runnable::run);
+    }
+
+    @DisplayName("상태를 확인하기 전에는 UNKNOWN 을 반환한다.")
+    @Test
+    void healthBeforeRefreshTest() {
+        assertEquals(Status.UNKNOWN, healthIndicator.health().getStatus());
+        verifyNoInteractions(s3Client);
+    }
+
+    @DisplayName("버킷에 접근할 수 있으면 UP 을 반환하고, 다음 갱신 전까지는 S3 를 다시 호출하지 않는다.")
+    @Test
+    void healthUpTest() {
+        // given
+        when(s3Client.headBucket(any(HeadBucketRequest.class))).thenReturn(HeadBucketResponse.builder().build());
+
+        // when
+        healthIndicator.refresh();
+        healthIndicator.health();
+        healthIndicator.health();
+
+        // then
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        verify(s3Client, times(1)).headBucket(argThat((HeadBucketRequest request) -> BUCKET_NAME.equals(request.bucket())));
+    }
+
+    @DisplayName("버킷에 접근할 수 없으면 DOWN 을 반환한다.")
+    @Test
+    void healthDownTest() {
+        // given
+        when(s3Client.headBucket(any(HeadBucketRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(403).message("Access Denied").build());
+
+        // when
+        healthIndicator.refresh();
+
+        // then
+        assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+    }
+}
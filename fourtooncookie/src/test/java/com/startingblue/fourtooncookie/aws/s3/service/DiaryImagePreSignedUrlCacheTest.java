@@ -0,0 +1,73 @@
+package com.startingblue.fourtooncookie.aws.s3.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiaryImagePreSignedUrlCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("같은 일기와 그리드 위치의 프리사인 URL은 캐시에서 반환하고 적중 횟수를 기록한다.")
+    @Test
+    void getCachedPreSignedUrlTest() throws MalformedURLException {
+        // given
+        DiaryImagePreSignedUrlCache cache = new DiaryImagePreSignedUrlCache(10, 60L, 100L, meterRegistry);
+        URL url = URI.create("http://example.com/1/0.png").toURL();
+        cache.get(1L, 0, () -> url);
+
+        // when
+        URL cachedUrl = cache.get(1L, 0, () -> null);
+
+        // then
+        assertThat(cachedUrl).isEqualTo(url);
+        assertThat(cacheGets("hit")).isEqualTo(1);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @DisplayName("일기의 캐시를 제거하면 모든 그리드 위치의 프리사인 URL이 제거된다.")
+    @Test
+    void evictTest() throws MalformedURLException {
+        // given
+        DiaryImagePreSignedUrlCache cache = new DiaryImagePreSignedUrlCache(10, 60L, 100L, meterRegistry);
+        URL url = URI.create("http://example.com/1/0.png").toURL();
+        cache.get(1L, 0, () -> url);
+        cache.get(1L, 3, () -> url);
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.getIfPresent(1L, 0)).isNull();
+        assertThat(cache.getIfPresent(1L, 3)).isNull();
+    }
+
+    @DisplayName("안전 마진이 서명 유효 기간보다 길면 프리사인 URL을 캐시하지 않는다.")
+    @Test
+    void safetyMarginLongerThanDurationTest() throws MalformedURLException {
+        // given
+        DiaryImagePreSignedUrlCache cache = new DiaryImagePreSignedUrlCache(1, 120L, 100L, meterRegistry);
+        URL url = URI.create("http://example.com/1/0.png").toURL();
+
+        // when
+        cache.get(1L, 0, () -> url);
+
+        // then
+        assertThat(cache.getIfPresent(1L, 0)).isNull();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "diaryImagePreSignedUrl")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -1,6 +1,7 @@
 package com.startingblue.fourtooncookie.aws.s3.service;
 
 import com.startingblue.fourtooncookie.aws.s3.exception.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,10 +9,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
@@ -20,12 +29,25 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +59,9 @@ public class DiaryImageS3ServiceTest {
     @Mock
     private S3Presigner s3Presigner;
 
+    @Spy
+    private DiaryImagePreSignedUrlCache preSignedUrlCache = new DiaryImagePreSignedUrlCache(60, 60L, 100L, new SimpleMeterRegistry());
+
     @InjectMocks
     private DiaryImageS3Service diaryImageS3Service;
 
@@ -167,6 +192,58 @@ public class DiaryImageS3ServiceTest {
         verify(s3Presigner).presignGetObject(any(GetObjectPresignRequest.class));
     }
 
+    @Test
+    @DisplayName("존재가 확인된 이미지는 HEAD 요청 없이 프리사인 URL을 생성한다")
+    void testPresignImageUrlWithoutHeadObject() throws MalformedURLException {
+        Long diaryId = 1L;
+        Integer gridPosition = 1;
+
+        PresignedGetObjectRequest presignedGetObjectRequest = mock(PresignedGetObjectRequest.class);
+        when(presignedGetObjectRequest.url()).thenReturn(URI.create("http://example.com").toURL());
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presignedGetObjectRequest);
+
+        URL url = diaryImageS3Service.presignImageUrl(diaryId, gridPosition);
+
+        assertEquals(new URL("http://example.com"), url);
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("캐시된 프리사인 URL은 HEAD 요청과 서명 없이 반환한다")
+    void testGeneratePreSignedImageUrlFromCache() throws MalformedURLException {
+        Long diaryId = 1L;
+        Integer gridPosition = 1;
+
+        PresignedGetObjectRequest presignedGetObjectRequest = mock(PresignedGetObjectRequest.class);
+        when(presignedGetObjectRequest.url()).thenReturn(URI.create("http://example.com").toURL());
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(mock(HeadObjectResponse.class));
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presignedGetObjectRequest);
+
+        URL firstUrl = diaryImageS3Service.generatePreSignedImageUrl(diaryId, gridPosition);
+        URL secondUrl = diaryImageS3Service.generatePreSignedImageUrl(diaryId, gridPosition);
+
+        assertEquals(firstUrl, secondUrl);
+        verify(s3Client, times(1)).headObject(any(HeadObjectRequest.class));
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("일기의 프리사인 URL 캐시를 제거하면 다시 서명한다")
+    void testEvictPreSignedImageUrls() throws MalformedURLException {
+        Long diaryId = 1L;
+        Integer gridPosition = 1;
+
+        PresignedGetObjectRequest presignedGetObjectRequest = mock(PresignedGetObjectRequest.class);
+        when(presignedGetObjectRequest.url()).thenReturn(URI.create("http://example.com").toURL());
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presignedGetObjectRequest);
+
+        diaryImageS3Service.presignImageUrl(diaryId, gridPosition);
+        diaryImageS3Service.evictPreSignedImageUrls(diaryId);
+        diaryImageS3Service.presignImageUrl(diaryId, gridPosition);
+
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
     @Test
     @DisplayName("이미지 존재 여부 확인 성공")
     void testIsImageExistSuccess() {
@@ -228,4 +305,192 @@ public class DiaryImageS3ServiceTest {
         // 상호작용 검증
         verify(s3Client).headObject(any(HeadObjectRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 일기의 프리사인 URL을 병렬로 생성하고 존재하지 않는 이미지는 제외한다")
+    void testGeneratePreSignedImageUrls() throws MalformedURLException {
+        DiaryImageS3Service fanOutService = createFanOutService(Runnable::run, 1000L);
+
+        PresignedGetObjectRequest presignedGetObjectRequest = mock(PresignedGetObjectRequest.class);
+        when(presignedGetObjectRequest.url()).thenReturn(URI.create("http://example.com").toURL());
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presignedGetObjectRequest);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenAnswer(invocation -> {
+            HeadObjectRequest headObjectRequest = invocation.getArgument(0);
+            if (headObjectRequest.key().equals("2/3.png")) {
+                throw NoSuchKeyException.builder().build();
+            }
+            return mock(HeadObjectResponse.class);
+        });
+
+        Map<Long, List<URL>> preSignedUrls = fanOutService.generatePreSignedImageUrls(List.of(1L, 2L));
+
+        assertEquals(List.of(1L, 2L), List.copyOf(preSignedUrls.keySet()));
+        assertEquals(4, preSignedUrls.get(1L).size());
+        assertEquals(3, preSignedUrls.get(2L).size());
+        verify(s3Client, times(8)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("프리사인 URL 생성이 제한 시간을 넘기면 해당 이미지는 제외한다")
+    void testGeneratePreSignedImageUrlsTimeout() {
+        DiaryImageS3Service fanOutService = createFanOutService(command -> { }, 10L);
+
+        Map<Long, List<URL>> preSignedUrls = fanOutService.generatePreSignedImageUrls(List.of(1L));
+
+        assertTrue(preSignedUrls.get(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("네 이미지를 병렬로 내려받아 2x2 이미지로 합친다")
+    void testRenderImagesTo2x2() throws IOException {
+        DiaryImageS3Service fanOutService = createFanOutService(Runnable::run, 1000L);
+        int[] colors = {Color.RED.getRGB(), Color.GREEN.getRGB(), Color.BLUE.getRGB(), Color.WHITE.getRGB()};
+        for (int gridPosition = 0; gridPosition < 4; gridPosition++) {
+            byte[] image = createImage(colors[gridPosition]);
+            String keyName = "1/" + gridPosition + ".png";
+            when(s3Client.getObject(argThat((GetObjectRequest request) -> request != null && request.key().equals(keyName)), anyImageTransformer()))
+                    .thenAnswer(invocation -> invocation.<ResponseTransformer<GetObjectResponse, BufferedImage>>getArgument(1)
+                            .transform(GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(image))));
+        }
+
+        BufferedImage fullImage = fanOutService.renderImagesTo2x2(1L);
+
+        assertEquals(4, fullImage.getWidth());
+        assertEquals(4, fullImage.getHeight());
+        assertEquals(colors[0], fullImage.getRGB(0, 0));
+        assertEquals(colors[1], fullImage.getRGB(2, 0));
+        assertEquals(colors[2], fullImage.getRGB(0, 2));
+        assertEquals(colors[3], fullImage.getRGB(2, 2));
+    }
+
+    @Test
+    @DisplayName("2x2 이미지 생성 중 존재하지 않는 이미지가 있으면 예외 발생")
+    void testRenderImagesTo2x2ImageNotExist() {
+        DiaryImageS3Service fanOutService = createFanOutService(Runnable::run, 1000L);
+        when(s3Client.getObject(any(GetObjectRequest.class), anyImageTransformer())).thenThrow(NoSuchKeyException.builder().build());
+
+        assertThrows(S3ImageNotFoundException.class, () -> fanOutService.renderImagesTo2x2(1L));
+    }
+
+    @Test
+    @DisplayName("병렬 S3 요청에는 남은 제한 시간만큼 apiCallTimeout 을 건다")
+    void testFanOutRequestsCarryRemainingDeadline() {
+        DiaryImageS3Service fanOutService = createFanOutService(Runnable::run, 1000L);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+        when(s3Client.getObject(any(GetObjectRequest.class), anyImageTransformer())).thenThrow(NoSuchKeyException.builder().build());
+
+        fanOutService.generatePreSignedImageUrls(List.of(1L));
+        assertThrows(S3ImageNotFoundException.class, () -> fanOutService.renderImagesTo2x2(1L));
+
+        ArgumentCaptor<HeadObjectRequest> headObjectRequestCaptor = ArgumentCaptor.forClass(HeadObjectRequest.class);
+        verify(s3Client, times(4)).headObject(headObjectRequestCaptor.capture());
+        ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, atLeastOnce()).getObject(getObjectRequestCaptor.capture(), anyImageTransformer());
+        List<Duration> apiCallTimeouts = new ArrayList<>();
+        headObjectRequestCaptor.getAllValues().forEach(request -> apiCallTimeouts.add(request.overrideConfiguration().orElseThrow().apiCallTimeout().orElseThrow()));
+        getObjectRequestCaptor.getAllValues().forEach(request -> apiCallTimeouts.add(request.overrideConfiguration().orElseThrow().apiCallTimeout().orElseThrow()));
+        assertTrue(apiCallTimeouts.stream().allMatch(timeout -> !timeout.isNegative() && timeout.compareTo(Duration.ofSeconds(1)) <= 0));
+    }
+
+    @Test
+    @DisplayName("저장된 합본 이미지가 없으면 빈 값을 반환한다")
+    void testOpenFullImageNotExist() {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        assertTrue(diaryImageS3Service.openFullImage(1L, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("저장된 합본 이미지의 프리사인 URL을 생성한다")
+    void testPresignFullImageUrl() throws MalformedURLException {
+        URL expectedUrl = URI.create("http://example.com/1/full-v2.png").toURL();
+        PresignedGetObjectRequest presignedGetObjectRequest = mock(PresignedGetObjectRequest.class);
+        when(presignedGetObjectRequest.url()).thenReturn(expectedUrl);
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presignedGetObjectRequest);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(mock(HeadObjectResponse.class));
+
+        assertEquals(expectedUrl, diaryImageS3Service.presignFullImageUrl(1L, 2).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("합본 이미지가 아직 없으면 프리사인 URL을 만들지 않는다")
+    void testPresignFullImageUrlNotExist() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        assertTrue(diaryImageS3Service.presignFullImageUrl(1L, 2).isEmpty());
+        verify(s3Presigner, never()).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("합본 이미지는 버전별 키로 업로드된다")
+    void testUploadFullImage() {
+        byte[] image = "full-image".getBytes();
+
+        diaryImageS3Service.uploadFullImage(1L, 2, image);
+
+        ArgumentCaptor<PutObjectRequest> putObjectRequestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(putObjectRequestCaptor.capture(), any(RequestBody.class));
+        assertEquals("1/full-v2.png", putObjectRequestCaptor.getValue().key());
+    }
+
+    @Test
+    @DisplayName("이전 버전 합본 이미지 삭제 실패는 무시한다")
+    void testDeleteFullImageException() {
+        when(s3Client.deleteObject(any(DeleteObjectRequest.class))).thenThrow(new RuntimeException("S3 Error"));
+
+        assertDoesNotThrow(() -> diaryImageS3Service.deleteFullImage(1L, 1));
+    }
+
+    @Test
+    @DisplayName("일기 이미지는 DeleteObjects 한 번에 최대 1000개씩 삭제한다")
+    void testDeleteDiaryImages() {
+        Map<Long, Integer> paintingImageVersions = new LinkedHashMap<>();
+        for (long diaryId = 1; diaryId <= 250; diaryId++) {
+            paintingImageVersions.put(diaryId, 1);
+        }
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+
+        diaryImageS3Service.deleteDiaryImages(paintingImageVersions);
+
+        ArgumentCaptor<DeleteObjectsRequest> deleteObjectsRequestCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(2)).deleteObjects(deleteObjectsRequestCaptor.capture());
+        List<DeleteObjectsRequest> requests = deleteObjectsRequestCaptor.getAllValues();
+        assertEquals(1000, requests.get(0).delete().objects().size());
+        assertEquals(250, requests.get(1).delete().objects().size());
+        assertEquals("1/0.png", requests.get(0).delete().objects().get(0).key());
+        assertEquals("1/full-v1.png", requests.get(0).delete().objects().get(4).key());
+    }
+
+    @Test
+    @DisplayName("일기 이미지 일괄 삭제 실패는 무시한다")
+    void testDeleteDiaryImagesException() {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(new RuntimeException("S3 Error"));
+
+        assertDoesNotThrow(() -> diaryImageS3Service.deleteDiaryImages(Map.of(1L, 1)));
+    }
+
+    private byte[] createImage(int rgb) throws IOException {
+        BufferedImage image = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < 2; x++) {
+            for (int y = 0; y < 2; y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private DiaryImageS3Service createFanOutService(Executor executor, Long timeoutInMillis) {
+        DiaryImageS3Service fanOutService = new DiaryImageS3Service(s3Client, s3Presigner, executor, preSignedUrlCache);
+        ReflectionTestUtils.setField(fanOutService, "bucketName", bucketName);
+        ReflectionTestUtils.setField(fanOutService, "preSignedUrlDurationInMinutes", preSignedUrlDurationInMinutes);
+        ReflectionTestUtils.setField(fanOutService, "preSignedUrlTimeoutInMillis", timeoutInMillis);
+        ReflectionTestUtils.setField(fanOutService, "downloadTimeoutInMillis", timeoutInMillis);
+        return fanOutService;
+    }
+
+    private static ResponseTransformer<GetObjectResponse, BufferedImage> anyImageTransformer() {
+        return any();
+    }
+}
@@ -1,5 +1,6 @@
 package com.startingblue.fourtooncookie.character.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.startingblue.fourtooncookie.artwork.domain.Artwork;
 import com.startingblue.fourtooncookie.artwork.service.ArtworkService;
 import com.startingblue.fourtooncookie.character.domain.Character;
@@ -11,16 +12,20 @@ import com.startingblue.fourtooncookie.character.dto.request.CharacterUpdateRequ
 import com.startingblue.fourtooncookie.character.dto.response.CharacterSavedResponse;
 import com.startingblue.fourtooncookie.character.dto.response.CharacterSavedResponses;
 import com.startingblue.fourtooncookie.character.exception.CharacterNotFoundException;
+import com.startingblue.fourtooncookie.global.cache.CatalogSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +44,9 @@ class CharacterServiceTest {
     @Mock
     private ArtworkService artworkService;
 
+    @Spy
+    private CharacterCatalogCache characterCatalogCache = new CharacterCatalogCache(new ObjectMapper(), 60L, new SimpleMeterRegistry());
+
     @InjectMocks
     private CharacterService characterService;
 
@@ -144,7 +152,7 @@ class CharacterServiceTest {
                 .basePrompt("This is a base prompt2")
                 .build();
 
-        when(characterRepository.findAll()).thenReturn(List.of(character1, character2));
+        when(characterRepository.findAllWithArtwork()).thenReturn(List.of(character1, character2));
 
         // when
         CharacterSavedResponses characterSavedResponses = CharacterSavedResponses.of(characterService.readAllCharacters());
@@ -181,7 +189,37 @@ class CharacterServiceTest {
                         character1.getSelectionThumbnailUrl(),
                         character2.getSelectionThumbnailUrl()
                 );
-        verify(characterRepository, times(1)).findAll();
+        verify(characterRepository, times(1)).findAllWithArtwork();
+    }
+
+    @DisplayName("캐릭터 카탈로그는 직렬화된 스냅샷으로 캐시되고 변경 시 다시 만들어진다.")
+    @Test
+    void readCatalogSnapshotIsCachedUntilCharacterChanges() throws MalformedURLException {
+        // given
+        Artwork artwork = new Artwork("Test Artwork", new URL("https://test.png"));
+        Character character = Character.builder()
+                .characterVisionType(CharacterVisionType.DALL_E_3)
+                .paymentType(PaymentType.FREE)
+                .artwork(artwork)
+                .name("멍멍이")
+                .selectionThumbnailUrl(new URL("https://test.png"))
+                .basePrompt("This is a base prompt")
+                .build();
+        when(characterRepository.findAllWithArtwork()).thenReturn(List.of(character));
+        when(artworkService.readById(1L)).thenReturn(artwork);
+
+        // when
+        CatalogSnapshot first = characterService.readCatalogSnapshot();
+        CatalogSnapshot second = characterService.readCatalogSnapshot();
+        characterService.createCharacter(new CharacterSaveRequest(CharacterVisionType.DALL_E_3, PaymentType.FREE, 1L, "야옹이", new URL("https://야옹이.png"), "prompt"));
+        CatalogSnapshot afterChange = characterService.readCatalogSnapshot();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("멍멍이");
+        assertThat(afterChange).isNotSameAs(first);
+        assertThat(afterChange.eTag()).isEqualTo(first.eTag());
+        verify(characterRepository, times(2)).findAllWithArtwork();
     }
 
     @DisplayName("캐릭터를 수정한다.")
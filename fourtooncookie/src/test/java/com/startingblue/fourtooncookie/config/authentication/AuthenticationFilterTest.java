@@ -3,6 +3,8 @@ package com.startingblue.fourtooncookie.config.authentication;
 import com.startingblue.fourtooncookie.global.authentication.filter.AuthenticationException;
 import com.startingblue.fourtooncookie.global.authentication.filter.AuthenticationFilter;
 import com.startingblue.fourtooncookie.global.authentication.jwt.JwtExtractor;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
+import com.startingblue.fourtooncookie.member.domain.MemberAuthProjection;
 import com.startingblue.fourtooncookie.member.service.MemberService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -17,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.Mockito.*;
@@ -62,7 +65,7 @@ class AuthenticationFilterTest {
         when(jwtExtractor.parseToken("validToken")).thenReturn(claims);
         when(claims.getSubject()).thenReturn(memberId.toString());
 
-        when(memberService.verifyMemberExists(memberId)).thenReturn(true);
+        when(memberService.readAuthProjection(memberId)).thenReturn(Optional.of(new MemberAuthProjection(true, false)));
 
         // When
         authenticationFilter.doFilter(request, response, filterChain);
@@ -99,7 +102,7 @@ class AuthenticationFilterTest {
         when(jwtExtractor.parseToken("validToken")).thenReturn(claims);
         when(claims.getSubject()).thenReturn(memberId.toString());
 
-        when(memberService.verifyMemberExists(memberId)).thenReturn(false);
+        when(memberService.readAuthProjection(memberId)).thenReturn(Optional.empty());
 
         // When
         authenticationFilter.doFilter(request, response, filterChain);
@@ -124,9 +127,10 @@ class AuthenticationFilterTest {
         authenticationFilter.doFilter(request, response, filterChain);
 
         // Then
-        verify(request, times(1)).setAttribute("memberId", memberId); // memberId가 설정되어야 함
+        verify(request, times(1)).setAttribute(AuthenticatedMember.ATTRIBUTE_NAME, AuthenticatedMember.signingUp(memberId));
         verify(filterChain, times(1)).doFilter(request, response);    // 필터 체인이 계속 이어져야 함
         verify(response, never()).sendError(anyInt(), anyString());  // 에러는 발생하지 않아야 함
+        verify(memberService, never()).readAuthProjection(memberId);  // 가입 요청은 회원을 조회하지 않음
     }
 
     @Test
@@ -142,13 +146,13 @@ class AuthenticationFilterTest {
         when(claims.getSubject()).thenReturn(memberId.toString());
 
         // Mock 회원 존재 여부
-        when(memberService.verifyMemberExists(memberId)).thenReturn(true);
+        when(memberService.readAuthProjection(memberId)).thenReturn(Optional.of(new MemberAuthProjection(true, false)));
 
         // When
         authenticationFilter.doFilter(request, response, filterChain);
 
         // Then
-        verify(request, times(1)).setAttribute("memberId", memberId); // memberId가 설정되어야 함
+        verify(request, times(1)).setAttribute(AuthenticatedMember.ATTRIBUTE_NAME, new AuthenticatedMember(memberId, true, false));
         verify(filterChain, times(1)).doFilter(request, response);    // 필터 체인이 계속 이어져야 함
         verify(response, never()).sendError(anyInt(), anyString());  // 에러는 발생하지 않아야 함
     }
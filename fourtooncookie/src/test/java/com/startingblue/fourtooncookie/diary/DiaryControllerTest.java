@@ -0,0 +1,184 @@
+package com.startingblue.fourtooncookie.diary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startingblue.fourtooncookie.diary.domain.Diary;
+import com.startingblue.fourtooncookie.diary.dto.request.DiaryFullImageDelivery;
+import com.startingblue.fourtooncookie.diary.service.DiaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class DiaryControllerTest {
+
+    private static final Long DIARY_ID = 1L;
+    private static final byte[] FULL_IMAGE = {1, 2, 3, 4};
+    private static final String FULL_IMAGE_URL = "https://bucket.s3.amazonaws.com/1/full-v2.png";
+
+    @Mock
+    private DiaryService diaryService;
+
+    @Mock
+    private Diary diary;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        DiaryController diaryController = new DiaryController(diaryService, new ObjectMapper());
+        ReflectionTestUtils.setField(diaryController, "defaultFullImageDelivery", DiaryFullImageDelivery.STREAM);
+        mockMvc = MockMvcBuilders.standaloneSetup(diaryController).build();
+
+        when(diaryService.readById(DIARY_ID)).thenReturn(diary);
+        when(diary.getId()).thenReturn(DIARY_ID);
+        when(diary.getPaintingImageVersion()).thenReturn(2);
+    }
+
+    @Test
+    @DisplayName("STREAM - 저장된 합본 이미지를 ETag 와 함께 내려준다")
+    void streamStoredFullImage() throws Exception {
+        // given
+        when(diary.isFullImageCacheable()).thenReturn(true);
+        when(diaryService.readDiaryFullImage(diary)).thenReturn(new ByteArrayInputStream(FULL_IMAGE));
+
+        // when & then
+        performAsync(get("/diary/{diaryId}/image/full", DIARY_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-v2\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(FULL_IMAGE));
+    }
+
+    @Test
+    @DisplayName("STREAM - If-None-Match 가 현재 ETag 와 같으면 304 를 응답하고 이미지를 읽지 않는다")
+    void streamNotModified() throws Exception {
+        // given
+        when(diary.isFullImageCacheable()).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/diary/{diaryId}/image/full", DIARY_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-v2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-v2\""))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(diaryService, never()).readDiaryFullImage(any());
+    }
+
+    @Test
+    @DisplayName("STREAM - 이전 버전의 ETag 로 요청하면 새 이미지를 내려준다")
+    void streamStaleETag() throws Exception {
+        // given
+        when(diary.isFullImageCacheable()).thenReturn(true);
+        when(diaryService.readDiaryFullImage(diary)).thenReturn(new ByteArrayInputStream(FULL_IMAGE));
+
+        // when & then
+        performAsync(get("/diary/{diaryId}/image/full", DIARY_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-v2\""))
+                .andExpect(content().bytes(FULL_IMAGE));
+    }
+
+    @Test
+    @DisplayName("STREAM - 생성 중인 다이어리는 렌더링 결과를 ETag 없이 응답 스트림에 바로 쓴다")
+    void streamRenderedFullImage() throws Exception {
+        // given
+        BufferedImage fullImage = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        when(diary.isFullImageCacheable()).thenReturn(false);
+        when(diaryService.renderDiaryFullImage(diary)).thenReturn(fullImage);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(FULL_IMAGE);
+            return null;
+        }).when(diaryService).writeDiaryFullImage(eq(fullImage), any(OutputStream.class));
+
+        // when & then
+        performAsync(get("/diary/{diaryId}/image/full", DIARY_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(content().bytes(FULL_IMAGE));
+
+        verify(diaryService, never()).readDiaryFullImage(any());
+    }
+
+    @Test
+    @DisplayName("REDIRECT - 프리사인 URL 로 302 리다이렉트한다")
+    void redirectToPreSignedUrl() throws Exception {
+        // given
+        when(diary.isFullImageCacheable()).thenReturn(true);
+        when(diaryService.readDiaryFullImageUrl(diary)).thenReturn(Optional.of(new URL(FULL_IMAGE_URL)));
+
+        // when & then
+        mockMvc.perform(get("/diary/{diaryId}/image/full", DIARY_ID)
+                        .param("delivery", "REDIRECT"))
+                .andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.LOCATION, FULL_IMAGE_URL))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+    }
+
+    @Test
+    @DisplayName("URL - 프리사인 URL 을 JSON 으로 응답한다")
+    void respondPreSignedUrl() throws Exception {
+        // given
+        when(diary.isFullImageCacheable()).thenReturn(true);
+        when(diaryService.readDiaryFullImageUrl(diary)).thenReturn(Optional.of(new URL(FULL_IMAGE_URL)));
+
+        // when & then
+        performAsync(get("/diary/{diaryId}/image/full", DIARY_ID)
+                        .param("delivery", "URL"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$.fullImageUrl").value(FULL_IMAGE_URL));
+    }
+
+    @Test
+    @DisplayName("URL - 저장된 합본 이미지가 없으면 스트림으로 대신 내려준다")
+    void fallBackToStreamWithoutStoredImage() throws Exception {
+        // given
+        when(diary.isFullImageCacheable()).thenReturn(true);
+        when(diaryService.readDiaryFullImageUrl(diary)).thenReturn(Optional.empty());
+        when(diaryService.readDiaryFullImage(diary)).thenReturn(new ByteArrayInputStream(FULL_IMAGE));
+
+        // when & then
+        performAsync(get("/diary/{diaryId}/image/full", DIARY_ID)
+                        .param("delivery", "URL"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-v2\""))
+                .andExpect(content().bytes(FULL_IMAGE));
+    }
+
+    // StreamingResponseBody 본문은 비동기로 쓰이므로 비동기 처리를 마친 결과를 검증한다.
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
+}
@@ -1,7 +1,9 @@
 package com.startingblue.fourtooncookie.diary.authorization;
 
 import com.startingblue.fourtooncookie.diary.service.DiaryService;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import com.startingblue.fourtooncookie.global.authorization.diary.DiaryOwnerAuthorizationInterceptor;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -46,7 +48,7 @@ class DiaryOwnerAuthorizationInterceptorTest {
         long validDiaryId = 1L;
 
         request.setRequestURI("/diary/" + validDiaryId);
-        request.setAttribute("memberId", validMemberId);
+        new AuthenticatedMember(UUID.fromString(validMemberId), true, false).bindTo(request);
 
         when(diaryService.verifyDiaryOwner(UUID.fromString(validMemberId), validDiaryId)).thenReturn(true);
 
@@ -59,11 +61,10 @@ class DiaryOwnerAuthorizationInterceptorTest {
     }
 
     @Test
-    @DisplayName("유효하지 않은 memberId로 권한 실패 - memberId 누락")
+    @DisplayName("유효하지 않은 memberId로 권한 실패 - 인증 주체 누락")
     void preHandleFailureMissingMemberId() {
         // Given
         request.setRequestURI("/diary/1");
-        request.setAttribute("memberId", null);
 
         // When
         boolean result = diaryOwnerAuthorizationInterceptor.preHandle(request, response, new Object());
@@ -80,7 +81,7 @@ class DiaryOwnerAuthorizationInterceptorTest {
         // Given
         String validMemberId = UUID.randomUUID().toString();
         request.setRequestURI("/diary/");
-        request.setAttribute("memberId", validMemberId);
+        new AuthenticatedMember(UUID.fromString(validMemberId), true, false).bindTo(request);
 
         // When
         boolean result = diaryOwnerAuthorizationInterceptor.preHandle(request, response, new Object());
@@ -99,7 +100,7 @@ class DiaryOwnerAuthorizationInterceptorTest {
         long validDiaryId = 1L;
 
         request.setRequestURI("/diary/" + validDiaryId);
-        request.setAttribute("memberId", validMemberId);
+        new AuthenticatedMember(UUID.fromString(validMemberId), true, false).bindTo(request);
 
         when(diaryService.verifyDiaryOwner(UUID.fromString(validMemberId), validDiaryId)).thenReturn(false);
 
@@ -119,11 +120,11 @@ class DiaryOwnerAuthorizationInterceptorTest {
             "' '",
             "invalid-uuid"
     })
-    @DisplayName("유효하지 않은 memberId 형식 - 실패")
+    @DisplayName("인증 주체가 아닌 memberId 속성 - 실패")
     void preHandleFailureInvalidMemberId(String memberId) {
         // Given
         request.setRequestURI("/diary/1");
-        request.setAttribute("memberId", memberId);
+        request.setAttribute(AuthenticatedMember.ATTRIBUTE_NAME, memberId);
 
         // When
         boolean result = diaryOwnerAuthorizationInterceptor.preHandle(request, response, new Object());
@@ -133,4 +134,36 @@ class DiaryOwnerAuthorizationInterceptorTest {
         assertTrue(response.getStatus() == HttpServletResponse.SC_FORBIDDEN); // 403 Forbidden 응답
         verify(diaryService, never()).verifyDiaryOwner(any(UUID.class), anyLong()); // diaryService는 호출되지 않아야 함
     }
+
+    @Test
+    @DisplayName("숫자가 아닌 diaryId - 실패")
+    void preHandleFailureInvalidDiaryId() {
+        // Given
+        request.setRequestURI("/diary/timeline-x");
+        AuthenticatedMember.signingUp(UUID.randomUUID()).bindTo(request);
+
+        // When
+        boolean result = diaryOwnerAuthorizationInterceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertFalse(result);
+        assertTrue(response.getStatus() == HttpServletResponse.SC_FORBIDDEN);
+        verify(diaryService, never()).verifyDiaryOwner(any(UUID.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("비동기 디스패치는 최초 요청에서 검사했으므로 다시 조회하지 않는다 - 성공")
+    void preHandleSkipsAsyncDispatch() {
+        // Given
+        request.setRequestURI("/diary/1/image/full");
+        request.setDispatcherType(DispatcherType.ASYNC);
+        new AuthenticatedMember(UUID.randomUUID(), true, false).bindTo(request);
+
+        // When
+        boolean result = diaryOwnerAuthorizationInterceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertTrue(result);
+        verify(diaryService, never()).verifyDiaryOwner(any(UUID.class), anyLong());
+    }
 }
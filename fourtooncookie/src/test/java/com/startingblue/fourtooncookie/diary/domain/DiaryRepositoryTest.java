@@ -15,9 +15,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -101,45 +101,17 @@ class DiaryRepositoryTest {
         Pageable pageable = PageRequest.of(0, 2);
 
         // when
-        Page<Diary> diaryPage = diaryRepository.findAllByMemberIdOrderByDiaryDateDesc(member.getId(), pageable);
+        Slice<DiaryTimelineItem> diarySlice = diaryRepository.findTimelineByMemberId(member.getId(), pageable);
 
         // then
-        assertThat(diaryPage.getTotalElements()).isEqualTo(3);
-        assertThat(diaryPage.getContent()).hasSize(2);
-        assertThat(diaryPage.getContent())
-                .extracting(Diary::getContent)
+        assertThat(diarySlice.hasNext()).isTrue();
+        assertThat(diarySlice.getContent()).hasSize(2);
+        assertThat(diarySlice.getContent())
+                .extracting(DiaryTimelineItem::content)
                 .containsExactly("Test Content 3", "Test Content 2");
-    }
-
-    @DisplayName("멤버 ID와 일기 날짜로 일기 존재 여부 확인 테스트")
-    @Test
-    void testExistsByMemberIdAndDiaryDate() throws MalformedURLException {
-        // given
-        Member member = createMember();
-        Character character = createCharacter();
-
-        LocalDate diaryDate = LocalDate.now();
-        createDiary(member, character, "Test Content", diaryDate, "https://example.com/image.png");
-
-        // when
-        boolean exists = diaryRepository.existsByMemberIdAndDiaryDate(member.getId(), diaryDate);
-
-        // then
-        assertThat(exists).isTrue();
-    }
-
-    @DisplayName("멤버 ID와 일기 날짜로 일기 존재하지 않음 테스트")
-    @Test
-    void testNotExistsByMemberIdAndDiaryDate() {
-        // given
-        UUID memberId = UUID.randomUUID();
-        LocalDate diaryDate = LocalDate.now();
-
-        // when
-        boolean exists = diaryRepository.existsByMemberIdAndDiaryDate(memberId, diaryDate);
-
-        // then
-        assertThat(exists).isFalse();
+        assertThat(diarySlice.getContent())
+                .extracting(DiaryTimelineItem::characterId)
+                .containsOnly(character.getId());
     }
 
     @DisplayName("일기 즐겨찾기 상태 업데이트 테스트")
@@ -325,4 +325,56 @@ public class DiaryTest {
         assertThat(diary.getId()).isNull();
         assertThat(diary.isOwner(invalidMemberId)).isFalse();
     }
+
+    @Test
+    @DisplayName("그림 생성 완료 시 모든 그리드 위치의 그림이 존재한다")
+    public void testMarkAllPaintingImagesPresent() {
+        Diary diary = Diary.builder()
+                .content("Valid content")
+                .diaryDate(LocalDate.now())
+                .character(character)
+                .memberId(validMemberId)
+                .build();
+
+        assertThat(diary.getPresentPaintingImagePositions()).isEmpty();
+
+        diary.markAllPaintingImagesPresent();
+
+        assertThat(diary.getPresentPaintingImagePositions()).containsExactly(0, 1, 2, 3);
+        assertThat(diary.isPaintingImagePresenceUnknown()).isFalse();
+    }
+
+    @Test
+    @DisplayName("그림 존재 정보 없이 완료된 일기는 존재 여부 확인이 필요하다")
+    public void testPaintingImagePresenceUnknown() {
+        Diary diary = Diary.builder()
+                .content("Valid content")
+                .diaryDate(LocalDate.now())
+                .character(character)
+                .memberId(validMemberId)
+                .status(DiaryStatus.COMPLETED)
+                .build();
+
+        assertThat(diary.isPaintingImagePresenceUnknown()).isTrue();
+    }
+
+    @Test
+    @DisplayName("그림 버전이 증가하고 완료된 일기만 합본 이미지를 캐시할 수 있다")
+    public void testPaintingImageVersion() {
+        Diary diary = Diary.builder()
+                .content("Valid content")
+                .diaryDate(LocalDate.now())
+                .character(character)
+                .memberId(validMemberId)
+                .build();
+
+        assertThat(diary.getPaintingImageVersion()).isZero();
+        assertThat(diary.isFullImageCacheable()).isFalse();
+
+        diary.updateDiaryStatus(DiaryStatus.COMPLETED);
+        diary.increasePaintingImageVersion();
+
+        assertThat(diary.getPaintingImageVersion()).isEqualTo(1);
+        assertThat(diary.isFullImageCacheable()).isTrue();
+    }
 }
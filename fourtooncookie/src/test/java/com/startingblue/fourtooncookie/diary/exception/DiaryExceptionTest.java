@@ -1,18 +1,27 @@
 package com.startingblue.fourtooncookie.diary.exception;
 
+import com.startingblue.fourtooncookie.character.domain.Character;
+import com.startingblue.fourtooncookie.character.service.CharacterService;
+import com.startingblue.fourtooncookie.diary.domain.Diary;
 import com.startingblue.fourtooncookie.diary.domain.DiaryRepository;
+import com.startingblue.fourtooncookie.diary.dto.request.DiarySaveRequest;
 import com.startingblue.fourtooncookie.diary.service.DiaryService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class DiaryExceptionTest {
@@ -20,24 +29,47 @@ class DiaryExceptionTest {
     @Mock
     private DiaryRepository diaryRepository;
 
+    @Mock
+    private CharacterService characterService;
+
     @InjectMocks
     private DiaryService diaryService;
 
     private final UUID memberId = UUID.randomUUID();
     private final LocalDate diaryDate = LocalDate.of(2023, 9, 10);
+    private final DiarySaveRequest request = new DiarySaveRequest("content", diaryDate, 1L);
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this); // Initialize mocks
+
+        when(characterService.readReferenceById(1L)).thenReturn(mock(Character.class));
     }
 
     @DisplayName("유저가 같은 날짜에 이미 일기를 쓴 경우 DiaryDuplicateException 발생")
     @Test
     void diaryDuplicateException() {
-        when(diaryRepository.existsByMemberIdAndDiaryDate(memberId, diaryDate)).thenReturn(true);
+        when(diaryRepository.saveAndFlush(any(Diary.class)))
+                .thenThrow(constraintViolation("PUBLIC." + Diary.MEMBER_DIARY_DATE_UNIQUE_CONSTRAINT.toUpperCase()));
 
         assertThrows(DiaryDuplicateException.class, () -> {
-            diaryService.verifyUniqueDiary(memberId, diaryDate);
+            diaryService.createDiary(request, memberId);
+        });
+    }
+
+    @DisplayName("다른 제약 조건 위반은 DiaryDuplicateException 으로 변환하지 않음")
+    @Test
+    void otherConstraintViolation() {
+        when(diaryRepository.saveAndFlush(any(Diary.class)))
+                .thenThrow(constraintViolation("fk_diary_character_id"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            diaryService.createDiary(request, memberId);
         });
     }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(), constraintName));
+    }
 }
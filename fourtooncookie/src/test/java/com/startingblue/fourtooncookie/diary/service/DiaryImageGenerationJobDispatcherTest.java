@@ -0,0 +1,104 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.startingblue.fourtooncookie.aws.lambda.diaryimagegenerationpayload.DiaryImageGenerationLambdaInvoker;
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageGenerationJob;
+import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
+import com.startingblue.fourtooncookie.global.monitoring.TraceContextPropagation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DiaryImageGenerationJobDispatcherTest {
+
+    private static final Long JOB_ID = 10L;
+    private static final Long DIARY_ID = 1L;
+    private static final int GENERATION = 1;
+
+    @Mock
+    private DiaryImageGenerationJobService diaryImageGenerationJobService;
+
+    @Mock
+    private DiaryImageGenerationLambdaInvoker diaryImageGenerationLambdaInvoker;
+
+    @Mock
+    private TraceContextPropagation traceContextPropagation;
+
+    private DiaryImageGenerationJobDispatcher diaryImageGenerationJobDispatcher;
+
+    private DiaryImageGenerationJob job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(traceContextPropagation).runInSpan(anyString(), any(), any(Runnable.class));
+        diaryImageGenerationJobDispatcher = new DiaryImageGenerationJobDispatcher(
+                diaryImageGenerationJobService,
+                diaryImageGenerationLambdaInvoker,
+                Runnable::run,
+                traceContextPropagation,
+                1,
+                1);
+
+        job = new DiaryImageGenerationJob(DIARY_ID, GENERATION, LocalDateTime.now(), null);
+        ReflectionTestUtils.setField(job, "id", JOB_ID);
+        job.claim(LocalDateTime.now());
+        when(diaryImageGenerationJobService.claimDueJobs(anyInt())).thenReturn(List.of(job));
+    }
+
+    @Test
+    @DisplayName("EVENT 호출이 접수되면 작업을 지우지 않고 콜백을 기다린다")
+    void awaitCallbackOnEventInvocation() {
+        // given
+        when(diaryImageGenerationLambdaInvoker.invokeDiaryImageGenerationLambda(DIARY_ID, GENERATION)).thenReturn(DiaryStatus.IN_PROGRESS);
+
+        // when
+        diaryImageGenerationJobDispatcher.dispatch();
+
+        // then
+        verify(diaryImageGenerationJobService).awaitCallback(JOB_ID);
+        verify(diaryImageGenerationJobService, never()).complete(anyLong());
+        verify(diaryImageGenerationLambdaInvoker, never()).completeDiaryImageGeneration(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("콜백 기한이 지난 작업은 Lambda 를 다시 호출하지 않고 재시도를 예약한다")
+    void retryWhenCallbackIsLost() {
+        // given
+        job.awaitCallbackUntil(LocalDateTime.now());
+        when(diaryImageGenerationJobService.retryOrDiscard(JOB_ID)).thenReturn(true);
+
+        // when
+        diaryImageGenerationJobDispatcher.dispatch();
+
+        // then
+        verify(diaryImageGenerationLambdaInvoker, never()).invokeDiaryImageGenerationLambda(anyLong(), anyInt());
+        verify(diaryImageGenerationJobService).retryOrDiscard(JOB_ID);
+        verify(diaryImageGenerationLambdaInvoker, never()).completeDiaryImageGeneration(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("콜백이 끝내 오지 않아 재시도를 모두 소진하면 현재 생성을 FAILED 로 끝낸다")
+    void failWhenCallbackIsLostAndAttemptsExhausted() {
+        // given
+        job.awaitCallbackUntil(LocalDateTime.now());
+        when(diaryImageGenerationJobService.retryOrDiscard(JOB_ID)).thenReturn(false);
+
+        // when
+        diaryImageGenerationJobDispatcher.dispatch();
+
+        // then
+        verify(diaryImageGenerationLambdaInvoker).completeDiaryImageGeneration(DIARY_ID, GENERATION, DiaryStatus.FAILED);
+    }
+}
@@ -0,0 +1,119 @@
+package com.startingblue.fourtooncookie.diary.service;
+
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageGenerationJob;
+import com.startingblue.fourtooncookie.diary.domain.DiaryImageGenerationJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+        "diary.image-generation.outbox.max-attempts=2",
+        "diary.image-generation.outbox.callback-timeout-seconds=600",
+        "diary.image-generation.outbox.poll-interval-millis=3600000"
+})
+class DiaryImageGenerationJobServiceTest {
+
+    @Autowired
+    DiaryImageGenerationJobService diaryImageGenerationJobService;
+
+    @Autowired
+    DiaryImageGenerationJobRepository diaryImageGenerationJobRepository;
+
+    @BeforeEach
+    void setUp() {
+        diaryImageGenerationJobRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("가져간 작업은 임대 시간 동안 다시 가져가지 않는다")
+    void claimDueJobsTest() {
+        diaryImageGenerationJobService.enqueue(1L, 1);
+        diaryImageGenerationJobService.enqueue(2L, 1);
+        diaryImageGenerationJobService.enqueue(3L, 1);
+
+        List<DiaryImageGenerationJob> claimedJobs = diaryImageGenerationJobService.claimDueJobs(2);
+
+        assertThat(claimedJobs).extracting(DiaryImageGenerationJob::getDiaryId).containsExactly(1L, 2L);
+        assertThat(claimedJobs).allSatisfy(job -> {
+            assertThat(job.getAttempts()).isEqualTo(1);
+            assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        });
+        assertThat(diaryImageGenerationJobService.claimDueJobs(2))
+                .extracting(DiaryImageGenerationJob::getDiaryId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 재시도 횟수를 모두 소진하면 버린다")
+    void retryOrDiscardTest() {
+        diaryImageGenerationJobService.enqueue(1L, 1);
+        Long jobId = diaryImageGenerationJobService.claimDueJobs(1).get(0).getId();
+
+        assertThat(diaryImageGenerationJobService.retryOrDiscard(jobId)).isTrue();
+        assertThat(diaryImageGenerationJobRepository.findById(jobId)).isPresent();
+
+        diaryImageGenerationJobRepository.findById(jobId).orElseThrow().claim(LocalDateTime.now());
+
+        assertThat(diaryImageGenerationJobService.retryOrDiscard(jobId)).isFalse();
+        assertThat(diaryImageGenerationJobRepository.findById(jobId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 삭제된다")
+    void completeTest() {
+        diaryImageGenerationJobService.enqueue(1L, 1);
+        Long jobId = diaryImageGenerationJobService.claimDueJobs(1).get(0).getId();
+
+        diaryImageGenerationJobService.complete(jobId);
+
+        assertThat(diaryImageGenerationJobRepository.findById(jobId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("콜백을 기다리는 작업은 기한이 지나야 다시 가져가고, 시도 횟수는 늘지 않는다")
+    void awaitCallbackTest() {
+        diaryImageGenerationJobService.enqueue(1L, 1);
+        Long jobId = diaryImageGenerationJobService.claimDueJobs(1).get(0).getId();
+
+        diaryImageGenerationJobService.awaitCallback(jobId);
+
+        DiaryImageGenerationJob job = diaryImageGenerationJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.isAwaitingCallback()).isTrue();
+        assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(590));
+        assertThat(diaryImageGenerationJobService.claimDueJobs(1)).isEmpty();
+
+        job.awaitCallbackUntil(LocalDateTime.now());
+        List<DiaryImageGenerationJob> expiredJobs = diaryImageGenerationJobService.claimDueJobs(1);
+
+        assertThat(expiredJobs).extracting(DiaryImageGenerationJob::getId).containsExactly(jobId);
+        assertThat(expiredJobs.get(0).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("콜백이 도착한 생성의 작업은 삭제된다")
+    void completeByDiaryIdAndGenerationTest() {
+        diaryImageGenerationJobService.enqueue(1L, 1);
+        diaryImageGenerationJobService.enqueue(1L, 2);
+        Long jobId = diaryImageGenerationJobService.claimDueJobs(1).get(0).getId();
+        diaryImageGenerationJobService.awaitCallback(jobId);
+
+        diaryImageGenerationJobService.completeByDiaryIdAndGeneration(1L, 1);
+
+        assertThat(diaryImageGenerationJobRepository.findAll())
+                .extracting(DiaryImageGenerationJob::getGeneration)
+                .containsExactly(2);
+    }
+}
@@ -5,16 +5,24 @@ import com.startingblue.fourtooncookie.artwork.domain.ArtworkRepository;
 import com.startingblue.fourtooncookie.character.domain.Character;
 import com.startingblue.fourtooncookie.character.domain.CharacterRepository;
 import com.startingblue.fourtooncookie.character.domain.CharacterVisionType;
+import com.startingblue.fourtooncookie.character.exception.CharacterNotFoundException;
 import com.startingblue.fourtooncookie.global.domain.PaymentType;
 import com.startingblue.fourtooncookie.diary.domain.Diary;
 import com.startingblue.fourtooncookie.diary.domain.DiaryRepository;
+import com.startingblue.fourtooncookie.diary.domain.DiaryStatus;
 import com.startingblue.fourtooncookie.diary.dto.request.DiarySaveRequest;
+import com.startingblue.fourtooncookie.diary.dto.request.DiaryTimelineCursor;
+import com.startingblue.fourtooncookie.diary.dto.response.DiarySavedResponse;
+import com.startingblue.fourtooncookie.diary.dto.response.DiarySavedResponses;
 import com.startingblue.fourtooncookie.diary.exception.DiaryDuplicateException;
 import com.startingblue.fourtooncookie.diary.exception.DiaryNotFoundException;
+import com.startingblue.fourtooncookie.diary.exception.DiaryTimelineCursorException;
 import com.startingblue.fourtooncookie.member.domain.Gender;
 import com.startingblue.fourtooncookie.member.domain.Member;
 import com.startingblue.fourtooncookie.member.domain.MemberRepository;
 import com.startingblue.fourtooncookie.member.domain.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -52,6 +61,9 @@ class DiaryServiceTest {
     @Autowired
     ArtworkRepository artworkRepository;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     private Member member;
     private Character character;
     private Artwork artwork;
@@ -151,6 +163,22 @@ class DiaryServiceTest {
         assertThat(savedDiary.getDiaryDate()).isEqualTo(request.diaryDate());
     }
 
+    @DisplayName("일기를 생성하면 커밋 후에 상태 전이 메트릭이 기록된다.")
+    @Test
+    void createDiaryRecordsStatusTransitionTest() {
+        // given
+        DiarySaveRequest request = new DiarySaveRequest("오늘의 일기", LocalDate.now(), character.getId());
+        double before = statusTransitions("NONE", DiaryStatus.IN_PROGRESS);
+
+        // when
+        diaryService.createDiary(request, member.getId());
+
+        // then
+        assertThat(statusTransitions("NONE", DiaryStatus.IN_PROGRESS)).isEqualTo(before);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(statusTransitions("NONE", DiaryStatus.IN_PROGRESS)).isEqualTo(before + 1);
+    }
+
     @DisplayName("일기를 즐겨찾기로 설정한다.")
     @Test
     void updateDiaryFavoriteTest() throws MalformedURLException {
@@ -178,12 +206,70 @@ class DiaryServiceTest {
         diaryRepository.saveAll(diaries);
 
         // when
-        List<Diary> foundDiaries = diaryService.readDiariesByMemberId(member.getId(), 0, 3);
+        List<DiarySavedResponse> foundDiaries = diaryService.readDiariesByMemberId(member.getId(), 0, 3);
 
         // then
         assertThat(foundDiaries).hasSize(3);
-        assertThat(foundDiaries.get(0).getDiaryDate()).isEqualTo(now);
-        assertThat(foundDiaries.get(2).getDiaryDate()).isEqualTo(now.minusDays(2));
+        assertThat(foundDiaries.get(0).diaryDate()).isEqualTo(now);
+        assertThat(foundDiaries.get(2).diaryDate()).isEqualTo(now.minusDays(2));
+        assertThat(foundDiaries).allMatch(diary -> character.getId().equals(diary.characterId()));
+    }
+
+    @DisplayName("커서로 타임라인을 끝까지 중복 없이 이어서 조회한다.")
+    @Test
+    void readDiaryTimelineWithCursorTest() throws MalformedURLException {
+        // given
+        LocalDate now = LocalDate.now();
+        List<Diary> diaries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            diaries.add(createDiary(now.minusDays(i), character, member));
+        }
+        diaryRepository.saveAll(diaries);
+
+        // when
+        DiarySavedResponses firstPage = diaryService.readDiaryTimeline(member.getId(), null, 2);
+        DiarySavedResponses secondPage = diaryService.readDiaryTimeline(member.getId(), DiaryTimelineCursor.decode(firstPage.nextCursor()), 2);
+        DiarySavedResponses lastPage = diaryService.readDiaryTimeline(member.getId(), DiaryTimelineCursor.decode(secondPage.nextCursor()), 2);
+
+        // then
+        assertThat(firstPage.diarySavedResponses()).extracting(DiarySavedResponse::diaryDate)
+                .containsExactly(now, now.minusDays(1));
+        assertThat(secondPage.diarySavedResponses()).extracting(DiarySavedResponse::diaryDate)
+                .containsExactly(now.minusDays(2), now.minusDays(3));
+        assertThat(lastPage.diarySavedResponses()).extracting(DiarySavedResponse::diaryDate)
+                .containsExactly(now.minusDays(4));
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @DisplayName("잘못된 커서 토큰은 예외가 발생한다.")
+    @Test
+    void decodeInvalidTimelineCursorTest() {
+        assertThatThrownBy(() -> DiaryTimelineCursor.decode("not-a-cursor"))
+                .isInstanceOf(DiaryTimelineCursorException.class);
+    }
+
+    @DisplayName("마지막 페이지를 넘어서 조회하면 빈 목록을 반환한다.")
+    @Test
+    void readDiariesByMemberIdBeyondLastPageTest() throws MalformedURLException {
+        // given
+        diaryRepository.save(createDiary(LocalDate.now(), character, member));
+
+        // when
+        List<DiarySavedResponse> foundDiaries = diaryService.readDiariesByMemberId(member.getId(), 1, 3);
+
+        // then
+        assertThat(foundDiaries).isEmpty();
+    }
+
+    @DisplayName("존재하지 않는 캐릭터로 일기를 작성하면 예외가 발생한다.")
+    @Test
+    void createDiaryWithUnknownCharacterTest() {
+        // given
+        DiarySaveRequest request = new DiarySaveRequest("content", LocalDate.now(), Long.MAX_VALUE);
+
+        // when & then
+        assertThatThrownBy(() -> diaryService.createDiary(request, member.getId()))
+                .isInstanceOf(CharacterNotFoundException.class);
     }
 
     @DisplayName("같은 날짜에 중복 일기를 작성하면 예외가 발생한다.")
@@ -230,6 +316,53 @@ class DiaryServiceTest {
         assertThat(isOwner).isFalse();
     }
 
+    @DisplayName("존재하지 않는 일기는 소유자가 없으므로 false를 반환한다.")
+    @Test
+    void verifyDiaryOwnerNotExistTest() {
+        // when
+        boolean isOwner = diaryService.verifyDiaryOwner(member.getId(), Long.MAX_VALUE);
+
+        // then
+        assertThat(isOwner).isFalse();
+    }
+
+    @DisplayName("확인된 소유 관계는 캐시되어 다음 확인부터는 조회하지 않는다.")
+    @Test
+    void verifyDiaryOwnerCacheTest() throws MalformedURLException {
+        // given
+        Diary diary = createDiary(LocalDate.now(), character, member);
+        diaryRepository.save(diary);
+        diaryService.verifyDiaryOwner(member.getId(), diary.getId());
+        double hitCount = diaryOwnerCacheHits();
+
+        // when
+        boolean isOwner = diaryService.verifyDiaryOwner(member.getId(), diary.getId());
+
+        // then
+        assertThat(isOwner).isTrue();
+        assertThat(diaryOwnerCacheHits()).isEqualTo(hitCount + 1);
+    }
+
+
+    @DisplayName("회원의 모든 일기를 한 번에 삭제한다.")
+    @Test
+    void deleteDiaryByMemberIdTest() throws MalformedURLException {
+        // given
+        Member otherMember = createMember("다른 사람", LocalDate.of(1995, 1, 1), Gender.FEMALE);
+        memberRepository.save(otherMember);
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < 3; i++) {
+            diaryRepository.save(createDiary(now.minusDays(i), character, member));
+        }
+        diaryRepository.save(createDiary(now, character, otherMember));
+
+        // when
+        diaryService.deleteDiaryByMemberId(member.getId());
+
+        // then
+        assertThat(diaryRepository.findImageVersionsByMemberId(member.getId())).isEmpty();
+        assertThat(diaryRepository.findImageVersionsByMemberId(otherMember.getId())).hasSize(1);
+    }
 
     private Diary createDiary(LocalDate diaryDate, Character character, Member member) throws MalformedURLException {
         return Diary.builder()
@@ -251,4 +384,20 @@ class DiaryServiceTest {
                 .role(Role.MEMBER)
                 .build();
     }
+
+    private double diaryOwnerCacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "diaryOwner")
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    private double statusTransitions(String from, DiaryStatus to) {
+        Counter counter = meterRegistry.find("diary.status.transitions")
+                .tag("from", from)
+                .tag("to", to.name())
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
 }
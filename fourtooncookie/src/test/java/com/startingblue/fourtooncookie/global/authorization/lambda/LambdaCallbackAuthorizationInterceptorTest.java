@@ -0,0 +1,60 @@
+package com.startingblue.fourtooncookie.global.authorization.lambda;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LambdaCallbackAuthorizationInterceptorTest {
+
+    private static final String CALLBACK_SECRET_HEADER = "X-Lambda-Callback-Secret";
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @DisplayName("시크릿이 일치하면 true 반환")
+    @Test
+    void whenSecretMatchesThenTrue() {
+        //given
+        LambdaCallbackAuthorizationInterceptor interceptor = new LambdaCallbackAuthorizationInterceptor("secret");
+        when(request.getHeader(CALLBACK_SECRET_HEADER)).thenReturn("secret");
+
+        //when & then
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+    }
+
+    @DisplayName("시크릿이 일치하지 않으면 401과 false 반환")
+    @Test
+    void whenSecretMismatchThenFalse() {
+        //given
+        LambdaCallbackAuthorizationInterceptor interceptor = new LambdaCallbackAuthorizationInterceptor("secret");
+        when(request.getHeader(CALLBACK_SECRET_HEADER)).thenReturn("wrong");
+
+        //when & then
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    }
+
+    @DisplayName("시크릿이 설정되지 않았으면 false 반환")
+    @Test
+    void whenSecretNotConfiguredThenFalse() {
+        //given
+        LambdaCallbackAuthorizationInterceptor interceptor = new LambdaCallbackAuthorizationInterceptor("");
+        when(request.getHeader(CALLBACK_SECRET_HEADER)).thenReturn("");
+
+        //when & then
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+    }
+}
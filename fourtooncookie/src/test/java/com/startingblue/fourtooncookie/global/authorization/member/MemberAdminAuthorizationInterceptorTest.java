@@ -1,6 +1,6 @@
 package com.startingblue.fourtooncookie.global.authorization.member;
 
-import com.startingblue.fourtooncookie.member.service.MemberService;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -17,15 +17,11 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class MemberAdminAuthorizationInterceptorTest {
 
-    @Mock
-    private MemberService memberService;
-
     @Mock
     private HttpServletRequest request;
 
@@ -35,25 +31,11 @@ class MemberAdminAuthorizationInterceptorTest {
     @InjectMocks
     private MemberAdminAuthorizationInterceptor memberAdminAuthorizationInterceptor;
 
-    @DisplayName("memberId가 empty인 경우 false 반환")
-    @ParameterizedTest
-    @ValueSource(strings = {""})
-    void whenMemberIdEmptyThenFalse(String memberId) {
-        //given & then
-        when(request.getAttribute("memberId")).thenReturn(memberId);
-        when(request.getRequestURI()).thenReturn("");
-        when(request.getMethod()).thenReturn(HttpMethod.GET.name());
-        boolean result = memberAdminAuthorizationInterceptor.preHandle(request, response, new Object());
-
-        //then
-        assertFalse(result);
-    }
-    @DisplayName("memberId가 uuid가 아닌 경우 false 반환")
-    @ParameterizedTest
-    @ValueSource(strings = {"illegalId"})
-    void whenMEmberIdIllegalThenFalse(String memberId) {
+    @DisplayName("인증 주체가 없는 경우 false 반환")
+    @Test
+    void whenAuthenticatedMemberMissingThenFalse() {
         //given & then
-        when(request.getAttribute("memberId")).thenReturn(memberId);
+        when(request.getAttribute(AuthenticatedMember.ATTRIBUTE_NAME)).thenReturn(null);
         when(request.getRequestURI()).thenReturn("");
         when(request.getMethod()).thenReturn(HttpMethod.GET.name());
         boolean result = memberAdminAuthorizationInterceptor.preHandle(request, response, new Object());
@@ -88,13 +70,25 @@ class MemberAdminAuthorizationInterceptorTest {
         assertFalse(result);
     }
 
+    @DisplayName("관리자가 관리자 경로를 요청하면 true 반환")
+    @Test
+    void whenAdminRequestsThenTrue() {
+        //given & then
+        when(request.getAttribute(AuthenticatedMember.ATTRIBUTE_NAME))
+                .thenReturn(new AuthenticatedMember(UUID.randomUUID(), true, true));
+        when(request.getMethod()).thenReturn(HttpMethod.POST.name());
+        boolean result = memberAdminAuthorizationInterceptor.preHandle(request, response, new Object());
+
+        //then
+        assertTrue(result);
+    }
+
     @DisplayName("member가 admin인 경우 isAuthorized true 반환")
     @Test
     void whenAdminMemberIdThenTrue() {
         //given & then
-        when(memberService.verifyMemberAdmin(any())).thenReturn(true);
-        UUID randomUUID = UUID.randomUUID();
-        boolean result = memberAdminAuthorizationInterceptor.isAuthorized(randomUUID);
+        AuthenticatedMember authenticatedMember = new AuthenticatedMember(UUID.randomUUID(), true, true);
+        boolean result = memberAdminAuthorizationInterceptor.isAuthorized(authenticatedMember);
 
         //then
         assertTrue(result);
@@ -104,9 +98,8 @@ class MemberAdminAuthorizationInterceptorTest {
     @Test
     void whenNotAdminMemberIdThenFalse() {
         //given & then
-        when(memberService.verifyMemberAdmin(any())).thenReturn(false);
-        UUID randomUUID = UUID.randomUUID();
-        boolean result = memberAdminAuthorizationInterceptor.isAuthorized(randomUUID);
+        AuthenticatedMember authenticatedMember = new AuthenticatedMember(UUID.randomUUID(), true, false);
+        boolean result = memberAdminAuthorizationInterceptor.isAuthorized(authenticatedMember);
 
         //then
         assertFalse(result);
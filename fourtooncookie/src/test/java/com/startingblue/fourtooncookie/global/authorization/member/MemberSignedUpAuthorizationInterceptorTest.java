@@ -1,13 +1,11 @@
 package com.startingblue.fourtooncookie.global.authorization.member;
 
-import com.startingblue.fourtooncookie.member.service.MemberService;
+import com.startingblue.fourtooncookie.global.authentication.AuthenticatedMember;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,8 +18,6 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class MemberSignedUpAuthorizationInterceptorTest {
-    @Mock
-    private MemberService memberService;
 
     @Mock
     private HttpServletRequest request;
@@ -32,37 +28,46 @@ class MemberSignedUpAuthorizationInterceptorTest {
     @InjectMocks
     private MemberSignedUpAuthorizationInterceptor memberSignedUpAuthorizationInterceptor;
 
-    @DisplayName("memberId가 empty인 경우 false 반환")
-    @ParameterizedTest
-    @ValueSource(strings = {""})
-    void whenMemberIdEmptyThenFalse(String memberId) {
+    @DisplayName("인증 주체가 없는 경우 false 반환")
+    @Test
+    void whenAuthenticatedMemberMissingThenFalse() {
         //given & then
-        when(request.getAttribute("memberId")).thenReturn(memberId);
+        when(request.getAttribute(AuthenticatedMember.ATTRIBUTE_NAME)).thenReturn(null);
         boolean result = memberSignedUpAuthorizationInterceptor.preHandle(request, response, new Object());
 
         //then
         assertFalse(result);
     }
 
-    @DisplayName("memberId가 uuid가 아닌 경우 false 반환")
-    @ParameterizedTest
-    @ValueSource(strings = {"illegalId"})
-    void whenMEmberIdIllegalThenFalse(String memberId) {
+    @DisplayName("인증 주체가 다른 타입인 경우 false 반환")
+    @Test
+    void whenAuthenticatedMemberIllegalThenFalse() {
         //given & then
-        when(request.getAttribute("memberId")).thenReturn(memberId);
+        when(request.getAttribute(AuthenticatedMember.ATTRIBUTE_NAME)).thenReturn("illegalId");
         boolean result = memberSignedUpAuthorizationInterceptor.preHandle(request, response, new Object());
 
         //then
         assertFalse(result);
     }
 
+    @DisplayName("가입한 member의 요청은 true 반환")
+    @Test
+    void whenSignedUpMemberRequestsThenTrue() {
+        //given & then
+        when(request.getAttribute(AuthenticatedMember.ATTRIBUTE_NAME))
+                .thenReturn(new AuthenticatedMember(UUID.randomUUID(), true, false));
+        boolean result = memberSignedUpAuthorizationInterceptor.preHandle(request, response, new Object());
+
+        //then
+        assertTrue(result);
+    }
+
     @DisplayName("member가 회원가입 가능한 경우 isAuthorized true 반환")
     @Test
     void whenAdminMemberIdThenTrue() {
         //given & then
-        UUID uuid = UUID.randomUUID();
-        when(memberService.verifyMemberSignUp(uuid)).thenReturn(true);
-        boolean result = memberSignedUpAuthorizationInterceptor.isAuthorized(uuid);
+        AuthenticatedMember authenticatedMember = new AuthenticatedMember(UUID.randomUUID(), true, false);
+        boolean result = memberSignedUpAuthorizationInterceptor.isAuthorized(authenticatedMember);
 
         //then
         assertTrue(result);
@@ -72,9 +77,8 @@ class MemberSignedUpAuthorizationInterceptorTest {
     @Test
     void whenNotAdminMemberIdThenFalse() {
         //given & then
-        UUID uuid = UUID.randomUUID();
-        when(memberService.verifyMemberSignUp(uuid)).thenReturn(false);
-        boolean result = memberSignedUpAuthorizationInterceptor.isAuthorized(uuid);
+        AuthenticatedMember authenticatedMember = AuthenticatedMember.signingUp(UUID.randomUUID());
+        boolean result = memberSignedUpAuthorizationInterceptor.isAuthorized(authenticatedMember);
 
         //then
         assertFalse(result);
@@ -0,0 +1,77 @@
+package com.startingblue.fourtooncookie.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class AsyncConfigTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        AsyncConfig asyncConfig = new AsyncConfig(beanFactory.getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreadsEnabled", true);
+        taskExecutor = (ThreadPoolTaskExecutor) asyncConfig.getAsyncExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        taskExecutor.shutdown();
+    }
+
+    @DisplayName("가상 스레드 모드의 taskExecutor 는 가상 스레드에서 작업을 실행한다.")
+    @Test
+    void virtualThreadTaskExecutorTest() {
+        // when
+        boolean virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), taskExecutor).join();
+
+        // then
+        assertThat(virtual).isTrue();
+    }
+
+    @DisplayName("가상 스레드 모드의 taskExecutor 가 포화되면 제출한 스레드를 막지 않고 거절하며 거절 수를 기록한다.")
+    @Test
+    void saturatedVirtualThreadTaskExecutorRejectsTest() {
+        // given
+        int capacity = taskExecutor.getMaxPoolSize() + taskExecutor.getQueueCapacity();
+        for (int i = 0; i < capacity; i++) {
+            taskExecutor.execute(this::awaitRelease);
+        }
+
+        // when & then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> taskExecutor.execute(this::awaitRelease))
+                        .isInstanceOf(RejectedExecutionException.class));
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "taskExecutor").counter().count()).isEqualTo(1);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.startingblue.fourtooncookie.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JpaConfigTest {
+
+    @Test
+    @DisplayName("트랜잭션이 끝나면 OSIV 세션이 열려 있어도 커넥션을 반납한다")
+    void releaseConnectionAfterTransaction() {
+        // given
+        Map<String, Object> hibernateProperties = new HashMap<>();
+
+        // when
+        new JpaConfig().connectionHandlingCustomizer().customize(hibernateProperties);
+
+        // then
+        assertThat(hibernateProperties).containsEntry(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
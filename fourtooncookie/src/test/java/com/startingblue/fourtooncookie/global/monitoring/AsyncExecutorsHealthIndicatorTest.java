@@ -0,0 +1,134 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class AsyncExecutorsHealthIndicatorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ThreadPoolTaskExecutor executor = createExecutor();
+    private final ThreadPoolTaskExecutor callerRunsExecutor = createExecutor(new ThreadPoolExecutor.CallerRunsPolicy());
+    private final ThreadPoolTaskExecutor healthCheckExecutor = createExecutor();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+        callerRunsExecutor.shutdown();
+        healthCheckExecutor.shutdown();
+    }
+
+    @DisplayName("실행기에 여유가 있으면 UP 을 반환한다.")
+    @Test
+    void healthUpTest() {
+        // given
+        AsyncExecutorsHealthIndicator healthIndicator = new AsyncExecutorsHealthIndicator(Map.of("taskExecutor", executor), 0.9);
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertEquals(Status.UP, health.getStatus());
+    }
+
+    @DisplayName("모든 스레드가 바쁘고 큐가 기준 이상 차면 OUT_OF_SERVICE 를 반환한다.")
+    @Test
+    void healthOutOfServiceTest() throws InterruptedException {
+        // given
+        saturate(executor);
+        AsyncExecutorsHealthIndicator healthIndicator = new AsyncExecutorsHealthIndicator(Map.of("taskExecutor", executor), 0.9);
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+    }
+
+    @DisplayName("대기 작업 수를 알 수 없는 가상 스레드 실행기는 판단에서 제외한다.")
+    @Test
+    void healthIgnoresVirtualThreadExecutorTest() {
+        // given
+        SimpleAsyncTaskExecutor virtualThreadExecutor = new SimpleAsyncTaskExecutor();
+        virtualThreadExecutor.setVirtualThreads(true);
+        AsyncExecutorsHealthIndicator healthIndicator = new AsyncExecutorsHealthIndicator(Map.of("taskExecutor", virtualThreadExecutor), 0.9);
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertEquals(Status.UP, health.getStatus());
+        assertFalse(health.getDetails().containsKey("taskExecutor"));
+    }
+
+    @DisplayName("CallerRuns 실행기와 헬스 체크 실행기가 포화되어도 readiness 에 영향을 주지 않는다.")
+    @Test
+    void healthIgnoresNonAsyncConfigExecutorsTest() throws InterruptedException {
+        // given
+        saturate(callerRunsExecutor);
+        saturate(healthCheckExecutor);
+        ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withBean("taskExecutor", Executor.class, this::createExecutor)
+                .withBean("diaryImageGenerationExecutor", Executor.class, this::createExecutor)
+                .withBean("diaryImageS3Executor", Executor.class, () -> callerRunsExecutor)
+                .withBean("healthCheckExecutor", Executor.class, () -> healthCheckExecutor)
+                .withUserConfiguration(AsyncExecutorsHealthIndicator.class);
+
+        // when, then
+        contextRunner.run(context -> {
+            Health health = context.getBean(AsyncExecutorsHealthIndicator.class).health();
+
+            assertEquals(Status.UP, health.getStatus());
+            assertThat(health.getDetails()).containsOnlyKeys("taskExecutor", "diaryImageGenerationExecutor");
+        });
+    }
+
+    private void saturate(ThreadPoolTaskExecutor threadPoolTaskExecutor) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        threadPoolTaskExecutor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        started.await();
+        threadPoolTaskExecutor.execute(this::awaitRelease);
+        threadPoolTaskExecutor.execute(this::awaitRelease);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor() {
+        return createExecutor(new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(1);
+        threadPoolTaskExecutor.setMaxPoolSize(1);
+        threadPoolTaskExecutor.setQueueCapacity(2);
+        threadPoolTaskExecutor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.startingblue.fourtooncookie.global.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceContextPropagationTest {
+
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+    private TraceContextPropagation traceContextPropagation;
+
+    @BeforeEach
+    void setUp() {
+        tracerProvider = SdkTracerProvider.builder().build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+        tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+        });
+        Propagator propagator = new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+        traceContextPropagation = new TraceContextPropagation(tracer,
+                new StaticListableBeanFactory(Map.of("propagator", propagator)).getBeanProvider(Propagator.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @DisplayName("현재 스팬이 없으면 traceparent 는 null 이다.")
+    @Test
+    void currentTraceParentWithoutSpanTest() {
+        assertNull(traceContextPropagation.currentTraceParent());
+    }
+
+    @DisplayName("현재 스팬의 traceId 와 spanId 를 W3C traceparent 형식으로 돌려준다.")
+    @Test
+    void currentTraceParentTest() {
+        // given
+        Span span = tracer.nextSpan().name("request").start();
+
+        // when
+        String traceParent;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            traceParent = traceContextPropagation.currentTraceParent();
+        } finally {
+            span.end();
+        }
+
+        // then
+        assertEquals("00-" + span.context().traceId() + "-" + span.context().spanId() + "-01", traceParent);
+    }
+
+    @DisplayName("traceparent 를 부모로 하는 스팬 안에서 작업을 실행한다.")
+    @Test
+    void runInSpanTest() {
+        // given
+        Span requestSpan = tracer.nextSpan().name("request").start();
+        String traceParent;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(requestSpan)) {
+            traceParent = traceContextPropagation.currentTraceParent();
+        } finally {
+            requestSpan.end();
+        }
+        AtomicReference<Span> jobSpan = new AtomicReference<>();
+
+        // when
+        traceContextPropagation.runInSpan("job", traceParent, () -> jobSpan.set(tracer.currentSpan()));
+
+        // then
+        assertNotNull(jobSpan.get());
+        assertEquals(requestSpan.context().traceId(), jobSpan.get().context().traceId());
+        assertEquals(requestSpan.context().spanId(), jobSpan.get().context().parentId());
+        assertNull(tracer.currentSpan());
+    }
+}
@@ -2,17 +2,23 @@ package com.startingblue.fourtooncookie.jwt;
 
 import com.startingblue.fourtooncookie.global.authentication.filter.AuthenticationException;
 import com.startingblue.fourtooncookie.global.authentication.jwt.JwtExtractor;
+import com.github.benmanes.caffeine.cache.Ticker;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,18 +28,16 @@ class JwtExtractorTest {
 
     private JwtExtractor jwtExtractor;
     private Key secretKey;
+    private ManualTime time;
 
     @BeforeEach
     void setUp() {
-        jwtExtractor = new JwtExtractor();
-
         // SECRET_KEY 설정
         String secret = "my-secret-key-my-secret-key-my-secret-key-12345";  // 256-bit key
         secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
 
-        // ReflectionTestUtils를 사용하여 private 필드 주입
-        ReflectionTestUtils.setField(jwtExtractor, "SECRET_KEY", secret);
-        ReflectionTestUtils.setField(jwtExtractor, "ISSUER", "test-issuer");
+        time = new ManualTime(Instant.now());
+        jwtExtractor = new JwtExtractor(secret, "test-issuer", 100L, 300L, time, time);
     }
 
     @DisplayName("유효한 JWT 토큰을 파싱하여 Claims를 반환한다.")
@@ -50,6 +54,52 @@ class JwtExtractorTest {
         assertThat(claims.getSubject()).isEqualTo("test-user");
     }
 
+    @DisplayName("같은 토큰을 다시 파싱하면 검증된 Claims를 재사용한다.")
+    @Test
+    void parseTokenCacheTest() {
+        // given
+        String token = createJwtToken();
+
+        // when
+        Claims claims = jwtExtractor.parseToken(token);
+        Claims cachedClaims = jwtExtractor.parseToken(token);
+
+        // then
+        assertThat(cachedClaims).isSameAs(claims);
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 제외되어 다시 검증된다.")
+    @Test
+    void parseTokenCacheExpiredTest() {
+        // given
+        String token = Jwts.builder()
+                .setIssuer("test-issuer")
+                .setSubject("test-user")
+                .setExpiration(new Date(time.millis() + 2000)) // 2초 뒤 만료
+                .signWith(secretKey)
+                .compact();
+        jwtExtractor.parseToken(token);
+
+        // when
+        time.advance(Duration.ofMillis(2100));
+
+        // then
+        assertThatThrownBy(() -> jwtExtractor.parseToken(token))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessage("Expired JWT token");
+    }
+
+    @DisplayName("서명 키는 빈 생성 시점이 아니라 첫 검증 때 만든다.")
+    @Test
+    void parseTokenWithEmptySecretTest() {
+        // given
+        JwtExtractor emptySecretJwtExtractor = new JwtExtractor("", "test-issuer", 100L, 300L, time, time);
+
+        // when & then
+        assertThatThrownBy(() -> emptySecretJwtExtractor.parseToken(createJwtToken()))
+                .isInstanceOf(WeakKeyException.class);
+    }
+
     @DisplayName("잘못된 서명의 JWT 토큰을 파싱하면 AuthenticationException을 던진다.")
     @Test
     void parseTokenWithInvalidSignatureTest() {
@@ -165,4 +215,37 @@ class JwtExtractorTest {
                 .compact();
     }
 
+    // 토큰 만료 검증(Clock)과 캐시 만료(Ticker)가 같은 시각을 보도록 하나의 시간 원천으로 둘 다 구현한다.
+    private static class ManualTime extends Clock implements Ticker {
+
+        private Instant now;
+
+        ManualTime(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public long read() {
+            return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.startingblue.fourtooncookie.member.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MemberRepositoryTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @DisplayName("회원의 인증 정보를 한 번의 조회로 가져온다.")
+    @Test
+    void findAuthProjectionById() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .birth(LocalDate.of(1990, 1, 1))
+                .gender(Gender.MALE)
+                .role(Role.ADMIN)
+                .build());
+
+        // when & then
+        assertThat(memberRepository.findAuthProjectionById(member.getId()))
+                .contains(new MemberAuthProjection(true, true));
+    }
+
+    @DisplayName("이름이 없는 회원은 가입하지 않은 회원으로 조회된다.")
+    @Test
+    void findAuthProjectionByIdNotSignedUp() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .id(UUID.randomUUID())
+                .role(Role.MEMBER)
+                .build());
+
+        // when & then
+        assertThat(memberRepository.findAuthProjectionById(member.getId()))
+                .contains(new MemberAuthProjection(false, false));
+    }
+
+    @DisplayName("존재하지 않는 회원은 빈 값을 반환한다.")
+    @Test
+    void findAuthProjectionByIdNotFound() {
+        assertThat(memberRepository.findAuthProjectionById(UUID.randomUUID())).isEmpty();
+    }
+}
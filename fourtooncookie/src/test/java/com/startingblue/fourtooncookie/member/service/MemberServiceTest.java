@@ -2,17 +2,22 @@ package com.startingblue.fourtooncookie.member.service;
 
 import com.startingblue.fourtooncookie.member.domain.Gender;
 import com.startingblue.fourtooncookie.member.domain.Member;
+import com.startingblue.fourtooncookie.member.domain.MemberAuthProjection;
 import com.startingblue.fourtooncookie.member.domain.MemberRepository;
 import com.startingblue.fourtooncookie.member.domain.Role;
 import com.startingblue.fourtooncookie.member.dto.request.MemberSaveRequest;
 import com.startingblue.fourtooncookie.member.exception.MemberDuplicateException;
 import com.startingblue.fourtooncookie.member.exception.MemberNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -27,6 +32,9 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Spy
+    private MemberAuthCache memberAuthCache = new MemberAuthCache(60L, 100L, new SimpleMeterRegistry());
+
     @InjectMocks
     private MemberService memberService;
 
@@ -110,93 +118,103 @@ class MemberServiceTest {
         memberService.hardDeleteById(memberId);
 
         // then
-        verify(memberRepository, times(1)).deleteById(memberId); // 삭제 호출
+        verify(memberRepository, times(1)).hardDeleteById(memberId); // 삭제 호출
     }
 
     @Test
-    @DisplayName("멤버 존재 여부를 확인")
-    void verifyMemberExists_ReturnsTrue_WhenMemberExists() {
+    @DisplayName("멤버의 인증 정보를 조회")
+    void readAuthProjection_ReturnsProjection_WhenMemberExists() {
         // given
-        when(memberRepository.existsById(memberId)).thenReturn(true);
+        when(memberRepository.findAuthProjectionById(memberId)).thenReturn(Optional.of(new MemberAuthProjection(true, false)));
 
         // when
-        boolean exists = memberService.verifyMemberExists(memberId);
+        Optional<MemberAuthProjection> memberAuthProjection = memberService.readAuthProjection(memberId);
 
         // then
-        assertThat(exists).isTrue();
+        assertThat(memberAuthProjection).contains(new MemberAuthProjection(true, false));
     }
 
     @Test
-    @DisplayName("멤버가 존재하지 않으면 false 반환")
-    void verifyMemberExists_ReturnsFalse_WhenMemberNotExists() {
+    @DisplayName("멤버가 존재하지 않으면 빈 인증 정보를 반환하고 캐시하지 않는다")
+    void readAuthProjection_ReturnsEmpty_WhenMemberNotExists() {
         // given
-        when(memberRepository.existsById(memberId)).thenReturn(false);
+        when(memberRepository.findAuthProjectionById(memberId)).thenReturn(Optional.empty());
 
         // when
-        boolean exists = memberService.verifyMemberExists(memberId);
+        Optional<MemberAuthProjection> memberAuthProjection = memberService.readAuthProjection(memberId);
 
         // then
-        assertThat(exists).isFalse();
+        assertThat(memberAuthProjection).isEmpty();
+        assertThat(memberAuthCache.getIfPresent(memberId)).isNull();
     }
 
     @Test
-    @DisplayName("멤버의 가입 여부 확인")
-    void verifyMemberSignUp_ReturnsTrue_WhenSignedUp() {
+    @DisplayName("이름이 없으면 미가입, 관리자 역할이면 관리자로 판단한다")
+    void readAuthProjection_MapsSignUpAndAdmin() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+        UUID adminMemberId = UUID.randomUUID();
+        when(memberRepository.findAuthProjectionById(memberId)).thenReturn(Optional.of(new MemberAuthProjection(null, Role.MEMBER)));
+        when(memberRepository.findAuthProjectionById(adminMemberId)).thenReturn(Optional.of(new MemberAuthProjection("Test User", Role.ADMIN)));
 
         // when
-        boolean signedUp = memberService.verifyMemberSignUp(memberId);
+        MemberAuthProjection notSignedUp = memberService.readAuthProjection(memberId).orElseThrow();
+        MemberAuthProjection admin = memberService.readAuthProjection(adminMemberId).orElseThrow();
 
         // then
-        assertThat(signedUp).isTrue();
+        assertThat(notSignedUp.signedUp()).isFalse();
+        assertThat(notSignedUp.admin()).isFalse();
+        assertThat(admin.signedUp()).isTrue();
+        assertThat(admin.admin()).isTrue();
     }
 
     @Test
-    @DisplayName("멤버의 가입 상태가 불완전할 경우 false 반환")
-    void verifyMemberSignUp_ReturnsFalse_WhenNotSignedUp() {
+    @DisplayName("인증 정보는 캐시되어 반복 조회 시 DB를 조회하지 않는다")
+    void readAuthProjection_UsesCachedAuthProjection() {
         // given
-        Member incompleteMember = Member.builder().id(memberId).build();
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(incompleteMember));
+        when(memberRepository.findAuthProjectionById(memberId)).thenReturn(Optional.of(new MemberAuthProjection(true, false)));
 
         // when
-        boolean signedUp = memberService.verifyMemberSignUp(memberId);
+        memberService.readAuthProjection(memberId);
+        memberService.readAuthProjection(memberId);
+        memberService.readAuthProjection(memberId);
 
         // then
-        assertThat(signedUp).isFalse();
+        verify(memberRepository, times(1)).findAuthProjectionById(memberId);
     }
 
     @Test
-    @DisplayName("멤버가 관리자인 경우 true 반환")
-    void verifyMemberAdmin_ReturnsTrue_WhenAdmin() {
+    @DisplayName("멤버 삭제 시 캐시된 인증 정보가 제거된다")
+    void hardDeleteById_EvictsCachedAuthProjection() {
         // given
-        UUID adminMemberId = UUID.randomUUID();
-        Member adminMember = Member.builder()
-                .id(adminMemberId)
-                .name("Test User")
-                .birth(LocalDate.of(2000, 1, 1))
-                .gender(Gender.MALE)
-                .role(Role.ADMIN)
-                .build();
-        when(memberRepository.findById(adminMemberId)).thenReturn(Optional.of(adminMember));
+        when(memberRepository.findAuthProjectionById(memberId)).thenReturn(Optional.of(new MemberAuthProjection(true, false)));
+        memberService.readAuthProjection(memberId);
 
         // when
-        boolean isAdmin = memberService.verifyMemberAdmin(adminMemberId);
+        memberService.hardDeleteById(memberId);
+        when(memberRepository.findAuthProjectionById(memberId)).thenReturn(Optional.empty());
 
         // then
-        assertThat(isAdmin).isTrue();
+        assertThat(memberService.readAuthProjection(memberId)).isEmpty();
     }
 
     @Test
-    @DisplayName("멤버가 관리자가 아닐 경우 false 반환")
-    void verifyMemberAdmin_ReturnsFalse_WhenNotAdmin() {
+    @DisplayName("트랜잭션 안에서 삭제하면 캐시된 인증 정보는 커밋 후에 제거된다")
+    void hardDeleteById_EvictsCachedAuthProjectionAfterCommit() {
         // given
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-
-        // when
-        boolean isAdmin = memberService.verifyMemberAdmin(memberId);
-
-        // then
-        assertThat(isAdmin).isFalse();
+        when(memberRepository.findAuthProjectionById(memberId)).thenReturn(Optional.of(new MemberAuthProjection(true, false)));
+        memberService.readAuthProjection(memberId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            memberService.hardDeleteById(memberId);
+
+            // then
+            assertThat(memberAuthCache.getIfPresent(memberId)).isNotNull();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            assertThat(memberAuthCache.getIfPresent(memberId)).isNull();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 }